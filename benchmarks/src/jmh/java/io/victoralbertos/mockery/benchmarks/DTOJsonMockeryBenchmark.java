@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.victoralbertos.jolyglot.GsonSpeaker;
+import io.victoralbertos.jolyglot.JacksonSpeaker;
+import io.victoralbertos.jolyglot.MoshiSpeaker;
+import io.victoralbertos.mockery.api.JsonConverter;
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.built_in_mockery.DTOJson;
+import io.victoralbertos.mockery.internal.built_in_mockery.DTOJsonMockery;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Serialization and deserialization of {@link DTOJson} params for every supported json converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DTOJsonMockeryBenchmark {
+  @Param({"gson", "jackson", "moshi"})
+  public String converter;
+
+  private DTOJsonMockery dtoJsonMockery;
+  private Metadata<DTOJson> metadata;
+  private Object candidate;
+
+  @Setup public void setUp() throws NoSuchMethodException {
+    Class<?> mockingClass = mockingClass(converter);
+    Method method = mockingClass.getDeclaredMethod("mock", String.class);
+    DTOJson annotation = (DTOJson) method.getParameterAnnotations()[0][0];
+
+    dtoJsonMockery = new DTOJsonMockery();
+    metadata = new Metadata<>(mockingClass, method, null, annotation, String.class);
+    candidate = dtoJsonMockery.legal(metadata);
+  }
+
+  @Benchmark public Object legal() {
+    return dtoJsonMockery.legal(metadata);
+  }
+
+  @Benchmark public void validate() {
+    dtoJsonMockery.validate(metadata, candidate);
+  }
+
+  private static Class<?> mockingClass(String converter) {
+    switch (converter) {
+      case "gson": return GsonApi.class;
+      case "jackson": return JacksonApi.class;
+      case "moshi": return MoshiApi.class;
+      default: throw new IllegalArgumentException("Unknown converter " + converter);
+    }
+  }
+
+  @JsonConverter(GsonSpeaker.class)
+  private interface GsonApi {
+    void mock(@DTOJson(Mock.MockDTO.class) String json);
+  }
+
+  @JsonConverter(JacksonSpeaker.class)
+  private interface JacksonApi {
+    void mock(@DTOJson(Mock.MockDTO.class) String json);
+  }
+
+  @JsonConverter(MoshiSpeaker.class)
+  private interface MoshiApi {
+    void mock(@DTOJson(Mock.MockDTO.class) String json);
+  }
+}
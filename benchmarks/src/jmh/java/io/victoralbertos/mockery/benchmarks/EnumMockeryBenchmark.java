@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.built_in_mockery.Enum;
+import io.victoralbertos.mockery.internal.built_in_mockery.EnumMockery;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generation and validation of values for {@link Enum}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumMockeryBenchmark {
+  private EnumMockery enumMockery;
+  private Metadata<Enum> metadata;
+  private Object candidate;
+
+  @Setup public void setUp() throws NoSuchMethodException {
+    Method method = Enums.class.getDeclaredMethod("type", String.class);
+    Enum annotation = (Enum) method.getParameterAnnotations()[0][0];
+
+    enumMockery = new EnumMockery();
+    metadata = new Metadata<>(Enums.class, method, null, annotation, String.class);
+    candidate = enumMockery.legal(metadata);
+  }
+
+  @Benchmark public Object legal() {
+    return enumMockery.legal(metadata);
+  }
+
+  @Benchmark public void validate() {
+    enumMockery.validate(metadata, candidate);
+  }
+
+  private interface Enums {
+    void type(@Enum({"all", "owner", "public", "private", "member"}) String type);
+  }
+}
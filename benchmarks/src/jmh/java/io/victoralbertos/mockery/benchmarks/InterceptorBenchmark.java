@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.reactivex.Single;
+import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.built_in_interceptor.Retrofit;
+import io.victoralbertos.mockery.api.built_in_interceptor.Rx2Retrofit;
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import retrofit2.Call;
+
+/**
+ * End to end cost of a mocked network call when neither delay nor failures are configured,
+ * that is, the overhead that Mockery itself adds on top of the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InterceptorBenchmark {
+  private RetrofitApi retrofitApi;
+  private Rx2RetrofitApi rx2RetrofitApi;
+
+  @Setup public void setUp() {
+    retrofitApi = new Mockery.Builder<RetrofitApi>()
+        .mock(RetrofitApi.class)
+        .build();
+
+    rx2RetrofitApi = new Mockery.Builder<Rx2RetrofitApi>()
+        .mock(Rx2RetrofitApi.class)
+        .build();
+  }
+
+  @Benchmark public Mock retrofit() throws IOException {
+    return retrofitApi.mock().execute().body();
+  }
+
+  @Benchmark public Mock rx2Retrofit() {
+    return rx2RetrofitApi.mock().blockingGet();
+  }
+
+  @Retrofit(delay = 0, failurePercent = 0, variancePercentage = 0)
+  public interface RetrofitApi {
+    @DTO(Mock.MockDTO.class) Call<Mock> mock();
+  }
+
+  @Rx2Retrofit(delay = 0, failurePercent = 0, variancePercentage = 0)
+  public interface Rx2RetrofitApi {
+    @DTO(Mock.MockDTO.class) Single<Mock> mock();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+
+/**
+ * Model and DTO behaviour shared by every benchmark.
+ */
+public final class Mock {
+  private final String s1;
+
+  public Mock(String s1) {
+    this.s1 = s1;
+  }
+
+  public String getS1() {
+    return s1;
+  }
+
+  public static class MockDTO implements DTO.Behaviour<Mock> {
+    @Override public Mock legal() {
+      return new Mock(Mock.class.getName());
+    }
+
+    @Override public void validate(Mock candidate) throws AssertionError {
+      if (candidate == null) throw new AssertionError("mock can not be null");
+      if (!Mock.class.getName().equals(candidate.getS1())) {
+        throw new AssertionError("mock.s1 must be equal to " + Mock.class.getName());
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;
+
+/**
+ * Cost of dispatching a call through the dynamic proxy, isolated from any interceptor work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyDispatchBenchmark {
+  private BypassApi api;
+
+  @Setup public void setUp() {
+    api = new Mockery.Builder<BypassApi>()
+        .mock(BypassApi.class)
+        .build();
+  }
+
+  @Benchmark public Mock noParams() {
+    return api.mock();
+  }
+
+  @Benchmark public Mock validParam() {
+    return api.mockWithParam("param");
+  }
+
+  @Bypass
+  public interface BypassApi {
+    @DTO(Mock.MockDTO.class) Mock mock();
+
+    @DTO(Mock.MockDTO.class) Mock mockWithParam(@Valid(STRING) String param);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.reactivex.Single;
+import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.built_in_interceptor.Rx2Retrofit;
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import io.victoralbertos.mockery.internal.Robot;
+import io.victoralbertos.mockery.internal.RobotBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of {@link Robot#validateResponse(Object)}, as run by every generated test.
+ * A {@link Single} is used as the response because it can be subscribed repeatedly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RobotBenchmark {
+  private Robot robot;
+  private Single<Mock> response;
+
+  @Setup public void setUp() {
+    robot = RobotBuilder.test(Rx2RetrofitApi.class)
+        .onMethod("mock")
+        .build();
+
+    response = new Mockery.Builder<Rx2RetrofitApi>()
+        .mock(Rx2RetrofitApi.class)
+        .build()
+        .mock();
+  }
+
+  @Benchmark public void validateResponse() {
+    robot.validateResponse(response);
+  }
+
+  @Rx2Retrofit(delay = 0, failurePercent = 0, variancePercentage = 0)
+  public interface Rx2RetrofitApi {
+    @DTO(Mock.MockDTO.class) Single<Mock> mock();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.benchmarks;
+
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.EMAIL;
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.ID;
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.INT;
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.NUMBER;
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.PHONE;
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.URL;
+
+/**
+ * Generation and validation of values for every {@link Valid.Template}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidMockeryBenchmark {
+  @Param({"email", "phone", "url", "string", "integer", "id", "number"})
+  public String template;
+
+  private ValidMockery validMockery;
+  private Metadata<Valid> metadata;
+  private Object candidate;
+
+  @Setup public void setUp() {
+    validMockery = new ValidMockery();
+    metadata = ValidMockeryBenchmark.metadata(template);
+    candidate = validMockery.legal(metadata);
+  }
+
+  @Benchmark public Object legal() {
+    return validMockery.legal(metadata);
+  }
+
+  @Benchmark public void validate() {
+    validMockery.validate(metadata, candidate);
+  }
+
+  private static Metadata<Valid> metadata(String nameMethod) {
+    for (Method method : Templates.class.getDeclaredMethods()) {
+      if (method.getName().equals(nameMethod)) {
+        Valid valid = (Valid) method.getParameterAnnotations()[0][0];
+        return new Metadata<>(Templates.class, method, null, valid, String.class);
+      }
+    }
+
+    throw new IllegalArgumentException("No method found for template " + nameMethod);
+  }
+
+  private interface Templates {
+    void email(@Valid(EMAIL) String s);
+
+    void phone(@Valid(PHONE) String s);
+
+    void url(@Valid(URL) String s);
+
+    void string(@Valid(STRING) String s);
+
+    void integer(@Valid(INT) String s);
+
+    void id(@Valid(ID) String s);
+
+    void number(@Valid(NUMBER) String s);
+  }
+}
@@ -1,5 +1,7 @@
 package io.victoralbertos.mockery.api;
 
+import io.victoralbertos.mockery.internal.BehaviourRegistry;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -8,6 +10,19 @@ import java.lang.reflect.Type;
  * Wrap the data related with the current method call being process.
  */
 public final class Metadata<A extends Annotation> {
+  static {
+    MetadataAccess.set(new MetadataAccess() {
+      @Override protected <B extends Annotation> Metadata<B> create(Class<?> mockingClass, Method method,
+          Object[] args, B annotation, Type type, BehaviourRegistry behaviourRegistry) {
+        return new Metadata<>(mockingClass, method, args, annotation, type, behaviourRegistry);
+      }
+
+      @Override protected BehaviourRegistry registry(Metadata<?> metadata) {
+        return metadata.behaviourRegistry;
+      }
+    });
+  }
+
   /**
    * The class been mocked.
    */
@@ -36,12 +51,40 @@ public final class Metadata<A extends Annotation> {
    */
   private final Type type;
 
+  /**
+   * The behaviours supplied when building the mocked interface, shared by every call to that instance.
+   */
+  private final BehaviourRegistry behaviourRegistry;
+
+  /**
+   * The source of randomness to use when generating values or simulating behaviours.
+   */
+  private final RandomSource randomSource;
+
+  /**
+   * Use a registry of its own, which holds the default behaviours only.
+   */
   public Metadata(Class<?> mockingClass, Method method, Object[] args, A annotation, Type type) {
+    this(mockingClass, method, args, annotation, type, new BehaviourRegistry());
+  }
+
+  /**
+   * Use a registry of its own, which draws its values from {@code randomSource}.
+   */
+  public Metadata(Class<?> mockingClass, Method method, Object[] args, A annotation, Type type,
+      RandomSource randomSource) {
+    this(mockingClass, method, args, annotation, type, registryOf(randomSource));
+  }
+
+  private Metadata(Class<?> mockingClass, Method method, Object[] args, A annotation, Type type,
+      BehaviourRegistry behaviourRegistry) {
     this.mockingClass = mockingClass;
     this.method = method;
     this.args = args;
     this.annotation = annotation;
     this.type = type;
+    this.behaviourRegistry = behaviourRegistry;
+    this.randomSource = behaviourRegistry.randomSource();
   }
 
   public Class<?> getMockingClass() {
@@ -63,4 +106,21 @@ public final class Metadata<A extends Annotation> {
   public Type getType() {
     return type;
   }
+
+  public RandomSource getRandomSource() {
+    return randomSource;
+  }
+
+  /**
+   * The clock the mocked interface measures and simulates the network delays with.
+   */
+  public MockeryClock getClock() {
+    return behaviourRegistry.clock();
+  }
+
+  private static BehaviourRegistry registryOf(RandomSource randomSource) {
+    BehaviourRegistry behaviourRegistry = new BehaviourRegistry();
+    behaviourRegistry.register(RandomSource.class, randomSource);
+    return behaviourRegistry;
+  }
 }
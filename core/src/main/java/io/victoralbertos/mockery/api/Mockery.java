@@ -21,12 +21,21 @@ import io.victoralbertos.mockery.api.built_in_mockery.DTOArgs;
 import io.victoralbertos.mockery.api.built_in_mockery.DTOJson;
 import io.victoralbertos.mockery.api.built_in_mockery.Optional;
 import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import io.victoralbertos.mockery.internal.BehaviourRegistry;
+import io.victoralbertos.mockery.internal.GetMockeryImplementation;
+import io.victoralbertos.mockery.internal.Messages;
 import io.victoralbertos.mockery.internal.MockeryProxy;
+import io.victoralbertos.mockery.internal.SeededRandomSource;
+import io.victoralbertos.mockery.internal.built_in_mockery.EnumMockery;
+import io.victoralbertos.mockery.internal.built_in_mockery.LegalValuesPool;
+import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -43,6 +52,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface Mockery {
   Class<? extends Behaviour> value();
 
+  /**
+   * If true, no unit test asserting for failure would be generated for the param annotated with this mockery annotation.
+   * Being declared here, the annotation processor reads it without loading the {@link Behaviour} class.
+   */
+  boolean optional() default false;
+
   /**
    * Define how the Mockery annotation should behave.
    * @param <A> the type of the associated annotation.
@@ -78,7 +93,9 @@ public @interface Mockery {
     /**
      * If true, no unit test asserting for failure would be generated for the param
      * annotated with this mockery annotation.
+     * @deprecated the annotation processor does not call it any longer, declare it with {@link Mockery#optional()}.
      */
+    @Deprecated
     boolean isOptional();
   }
 
@@ -88,17 +105,103 @@ public @interface Mockery {
    */
   class Builder<T> {
     private Class<T> mockingClass;
+    private final Map<Class<?>, Object> behaviours = new LinkedHashMap<>();
+    private Long seed;
+    private boolean poolsLegalValues;
 
     public Builder<T> mock(Class<T> mockingClass) {
       this.mockingClass = mockingClass;
       return this;
     }
 
+    /**
+     * Supply the instance to be used by the mocked interface every time an implementation of {@code behaviourClass}
+     * is required, instead of letting Mockery instantiate it through its no-args constructor.
+     * @param behaviourClass the class referenced from the annotation, for instance {@code @DTO(UserDTO.class)}.
+     * @param behaviour the instance to use.
+     * @see Stateful
+     */
+    public <B> Builder<T> behaviour(Class<B> behaviourClass, B behaviour) {
+      behaviours.put(behaviourClass, behaviour);
+      return this;
+    }
+
+    /**
+     * Generate the values and simulate the behaviours of the mocked interface from a fixed {@code seed},
+     * so a run can be replayed exactly. Every built instance starts from the seed again, and the replay is
+     * exact as long as its calls are issued in the same order, which only single-threaded runs guarantee.
+     * It can not be combined with {@link #poolLegalValues(int)}.
+     * @see RandomSource
+     */
+    public Builder<T> seed(long seed) {
+      behaviours.remove(RandomSource.class);
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Hand out the legal values of {@link Valid} and {@link io.victoralbertos.mockery.api.built_in_mockery.Enum}
+     * from pools of {@code size} values pre-generated in the background, instead of generating them on every call.
+     * Meant for high-rate runs, as values may be handed out more than once while the pool is being filled again.
+     * It can not be combined with {@link #seed(long)}, as the values handed out depend on the background thread.
+     */
+    public Builder<T> poolLegalValues(int size) {
+      poolsLegalValues = true;
+      LegalValuesPool legalValuesPool = new LegalValuesPool(size);
+      behaviours.put(ValidMockery.class, new ValidMockery(legalValuesPool));
+      behaviours.put(EnumMockery.class, new EnumMockery(legalValuesPool));
+      return this;
+    }
+
+    /**
+     * Supply the {@link RandomSource} to be used by the mocked interface. By default a thread-local one is used.
+     */
+    public Builder<T> randomSource(RandomSource randomSource) {
+      this.seed = null;
+      behaviours.put(RandomSource.class, randomSource);
+      return this;
+    }
+
+    /**
+     * Supply the {@link MockeryClock} used by the built instance to simulate the network delays.
+     * By default the system one is used.
+     * @see VirtualClock
+     */
+    public Builder<T> clock(MockeryClock clock) {
+      behaviours.put(MockeryClock.class, clock);
+      return this;
+    }
+
+    /**
+     * Return the implementation of the interface generated by the annotation processor, whose methods call
+     * the mockeries straight away, or a dynamic proxy if the processor has not generated one.
+     * Every call returns an instance with its own behaviours, so they are not shared with previous builds.
+     */
     public T build() {
-      return (T) Proxy.newProxyInstance(
+      if (seed != null && poolsLegalValues) {
+        throw new RuntimeException(Messages.seedWithPooledLegalValues(mockingClass));
+      }
+
+      BehaviourRegistry registry = new BehaviourRegistry();
+      for (Map.Entry<Class<?>, Object> entry : behaviours.entrySet()) {
+        register(registry, entry.getKey(), entry.getValue());
+      }
+      if (seed != null) registry.register(RandomSource.class, new SeededRandomSource(seed));
+
+      T implementation = new GetMockeryImplementation().from(mockingClass, registry);
+      if (implementation != null) return implementation;
+
+      return mockingClass.cast(Proxy.newProxyInstance(
           mockingClass.getClassLoader(),
           new Class<?>[]{mockingClass},
-          new MockeryProxy(mockingClass));
+          new MockeryProxy(mockingClass, registry)));
+    }
+
+    /**
+     * Every behaviour is supplied along with its own class, so the cast never fails.
+     */
+    private static <B> void register(BehaviourRegistry registry, Class<B> behaviourClass, Object behaviour) {
+      registry.register(behaviourClass, behaviourClass.cast(behaviour));
     }
 
   }
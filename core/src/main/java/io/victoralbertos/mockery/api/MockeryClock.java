@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api;
+
+import java.util.concurrent.Future;
+
+/**
+ * The time used by the built-in interceptors to simulate network delays.
+ * By default the system clock is used, so every delay really elapses. Supply a {@link VirtualClock}
+ * with {@link Mockery.Builder#clock(MockeryClock)} to make them elapse instantly, or only when a test decides so.
+ */
+public interface MockeryClock {
+  /**
+   * The current time of this clock, in milliseconds.
+   */
+  long millis();
+
+  /**
+   * Run {@code task} once {@code delayMillis} have elapsed on this clock.
+   * @return the pending task, which can be cancelled as long as it has not been run yet.
+   */
+  Future<?> schedule(Runnable task, long delayMillis);
+}
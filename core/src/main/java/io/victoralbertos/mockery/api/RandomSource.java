@@ -0,0 +1,34 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api;
+
+import java.util.Random;
+
+/**
+ * Supply the randomness used by every built-in mockery and interceptor, both when generating legal values
+ * and when simulating the network behaviour.
+ * By default a thread-local source is used, so concurrent calls do not contend on a shared seed.
+ * Supply a fixed seed with {@link Mockery.Builder#seed(long)} to replay exactly the same values of a run whose calls
+ * are issued in the same order, or a custom implementation with {@link Mockery.Builder#randomSource(RandomSource)}.
+ */
+public interface RandomSource {
+  /**
+   * Return the {@link Random} to draw values from. It may be called from any thread,
+   * so the instance returned has to be safe to use from the calling one.
+   */
+  Random random();
+}
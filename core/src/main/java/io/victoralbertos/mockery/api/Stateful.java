@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Retention(RUNTIME)
+@Target(TYPE)
+
+/**
+ * By default Mockery creates only one instance of every {@link Mockery.Behaviour}, {@link Interceptor.Behaviour},
+ * DTO behaviour and {@code JolyglotGenerics} implementation per built instance, and reuses it on every call.
+ * Decorate with this annotation those implementations which keep state between calls,
+ * so Mockery creates a new instance for every call.
+ */
+public @interface Stateful {
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MockeryClock} whose time only moves forward when told so, which allows to test code dealing
+ * with long network delays without really waiting for them.
+ * The pending tasks always run in the order of their virtual due time.
+ * <ul>
+ *   <li>{@link #autoAdvancing()} jumps right away to the due time of every pending task, so delays elapse instantly.
+ *   Use it for tests which block waiting for a response, like the ones driven by {@code Robot}.</li>
+ *   <li>{@link #manual()} only runs the pending tasks on {@link #advanceBy(long, TimeUnit)}, so the tests can check
+ *   what happens before and after a response is due. Blocking on a response requires other thread to advance the time.</li>
+ * </ul>
+ */
+public final class VirtualClock implements MockeryClock {
+  private final boolean autoAdvance;
+  private final PriorityQueue<Task> tasks;
+  private long now;
+  private long sequence;
+
+  private VirtualClock(boolean autoAdvance) {
+    this.autoAdvance = autoAdvance;
+    this.tasks = new PriorityQueue<>();
+  }
+
+  public static VirtualClock autoAdvancing() {
+    return new VirtualClock(true);
+  }
+
+  public static VirtualClock manual() {
+    return new VirtualClock(false);
+  }
+
+  @Override public synchronized long millis() {
+    return now;
+  }
+
+  @Override public Future<?> schedule(Runnable task, long delayMillis) {
+    Task pending;
+    synchronized (this) {
+      pending = new Task(task, now + Math.max(0, delayMillis), sequence++);
+      tasks.add(pending);
+    }
+
+    if (autoAdvance) {
+      Driver.EXECUTOR.execute(new Runnable() {
+        @Override public void run() {
+          advanceTo(Long.MAX_VALUE);
+        }
+      });
+    }
+
+    return pending.future;
+  }
+
+  /**
+   * Move the time forward by {@code delay}, running on the calling thread every task which becomes due meanwhile.
+   */
+  public void advanceBy(long delay, TimeUnit unit) {
+    long target;
+    synchronized (this) {
+      target = now + unit.toMillis(delay);
+    }
+    advanceTo(target);
+    synchronized (this) {
+      now = Math.max(now, target);
+    }
+  }
+
+  private void advanceTo(long target) {
+    while (true) {
+      Task task;
+      synchronized (this) {
+        task = tasks.peek();
+        if (task == null || task.due > target) return;
+
+        tasks.poll();
+        if (!task.future.isCancelled()) now = Math.max(now, task.due);
+      }
+      task.future.run();
+    }
+  }
+
+  private static final class Task implements Comparable<Task> {
+    private final FutureTask<Void> future;
+    private final long due;
+    private final long sequence;
+
+    private Task(Runnable runnable, long due, long sequence) {
+      this.future = new FutureTask<>(runnable, null);
+      this.due = due;
+      this.sequence = sequence;
+    }
+
+    @Override public int compareTo(Task other) {
+      if (due != other.due) return due < other.due ? -1 : 1;
+      return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+    }
+  }
+
+  private static final class Driver {
+    private static final ExecutorService EXECUTOR = Executors
+        .newSingleThreadExecutor(new ThreadFactory() {
+          @Override public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Mockery-virtual-time");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+  }
+
+}
@@ -26,7 +26,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 @Retention(RUNTIME)
 @Target(PARAMETER)
-@Mockery(OptionalMockery.class)
+@Mockery(value = OptionalMockery.class, optional = true)
 /**
  * Because Mockery library requires that every param is annotated to keep the system integrity,
  * Optional annotation offers a simple way to annotate those values which does not require
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import io.victoralbertos.mockery.api.RandomSource;
+import io.victoralbertos.mockery.api.Stateful;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hold the behaviour instances used by a mocked interface, creating each one only once
+ * unless its class is annotated with {@link Stateful}. Every instance built with {@code Mockery.Builder}
+ * owns its registry, so the behaviours supplied to one builder never reach the instances built by another.
+ */
+public final class BehaviourRegistry {
+  private final ConcurrentMap<Class<?>, Object> instances;
+  private final InstantiateInterface instantiateInterface;
+
+  public BehaviourRegistry() {
+    this.instances = new ConcurrentHashMap<>();
+    this.instantiateInterface = new InstantiateInterface();
+  }
+
+  /**
+   * Supply the instance to be used every time an implementation of {@code aClass} is required.
+   */
+  public <T> void register(Class<T> aClass, T instance) {
+    instances.put(aClass, instance);
+  }
+
+  public <T> T from(Class<T> aClass) {
+    Object instance = instances.get(aClass);
+    if (instance != null) return aClass.cast(instance);
+
+    if (aClass.isAnnotationPresent(Stateful.class)) {
+      return instantiateInterface.from(aClass);
+    }
+
+    instance = instantiateInterface.from(aClass);
+    Object previous = instances.putIfAbsent(aClass, instance);
+    return aClass.cast(previous != null ? previous : instance);
+  }
+
+  /**
+   * Return the {@link RandomSource} registered for the mocked interface, or the thread-local one if none was supplied.
+   */
+  public RandomSource randomSource() {
+    RandomSource randomSource = (RandomSource) instances.get(RandomSource.class);
+    return randomSource != null ? randomSource : ThreadLocalRandomSource.INSTANCE;
+  }
+
+  /**
+   * Return the {@link MockeryClock} registered for the mocked interface, or the system one if none was supplied.
+   */
+  public MockeryClock clock() {
+    MockeryClock clock = (MockeryClock) instances.get(MockeryClock.class);
+    return clock != null ? clock : SystemClock.INSTANCE;
+  }
+
+}
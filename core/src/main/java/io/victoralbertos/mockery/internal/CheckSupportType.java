@@ -16,24 +16,91 @@
 
 package io.victoralbertos.mockery.internal;
 
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 
 public final class CheckSupportType {
-
   public void from(Class mockingClass, Method method,
       MockeryMetadata mockery, Type candidate) {
     Type[] supportedTypes = mockery.supportedTypes();
 
     for (Type supportedType : supportedTypes) {
-      if (supportedType.toString().replace("? extends ", "")
-          .equals(candidate.toString())) {
-        return;
-      }
+      if (matches(supportedType, candidate)) return;
     }
 
     String message = Messages.notSupportedTypeForMockery(mockingClass, method,
         mockery, candidate, supportedTypes);
     throw new RuntimeException(message);
   }
+
+  /**
+   * Compare both types structurally, regardless of the implementation of {@code Type} used to create them.
+   * An upper bounded wildcard on the supported type matches its bound, so {@code List<? extends T>}
+   * supports {@code List<T>}.
+   */
+  private boolean matches(Type supportedType, Type candidate) {
+    if (supportedType instanceof WildcardType) {
+      WildcardType wildcardType = (WildcardType) supportedType;
+      Type[] upperBounds = wildcardType.getUpperBounds();
+
+      if (wildcardType.getLowerBounds().length == 0 && upperBounds.length == 1
+          && upperBounds[0] != Object.class) {
+        return matches(upperBounds[0], candidate);
+      }
+    }
+
+    if (supportedType instanceof Class || candidate instanceof Class) {
+      return supportedType.equals(candidate);
+    }
+
+    if (supportedType instanceof ParameterizedType && candidate instanceof ParameterizedType) {
+      ParameterizedType supportedParameterized = (ParameterizedType) supportedType;
+      ParameterizedType candidateParameterized = (ParameterizedType) candidate;
+
+      return matches(supportedParameterized.getRawType(), candidateParameterized.getRawType())
+          && ownersMatch(supportedParameterized.getOwnerType(), candidateParameterized.getOwnerType())
+          && allMatch(supportedParameterized.getActualTypeArguments(),
+          candidateParameterized.getActualTypeArguments());
+    }
+
+    if (supportedType instanceof GenericArrayType && candidate instanceof GenericArrayType) {
+      return matches(((GenericArrayType) supportedType).getGenericComponentType(),
+          ((GenericArrayType) candidate).getGenericComponentType());
+    }
+
+    if (supportedType instanceof WildcardType && candidate instanceof WildcardType) {
+      WildcardType supportedWildcard = (WildcardType) supportedType;
+      WildcardType candidateWildcard = (WildcardType) candidate;
+
+      return allMatch(supportedWildcard.getUpperBounds(), candidateWildcard.getUpperBounds())
+          && allMatch(supportedWildcard.getLowerBounds(), candidateWildcard.getLowerBounds());
+    }
+
+    if (supportedType instanceof TypeVariable && candidate instanceof TypeVariable) {
+      return ((TypeVariable) supportedType).getName()
+          .equals(((TypeVariable) candidate).getName());
+    }
+
+    return false;
+  }
+
+  private boolean ownersMatch(Type supportedOwner, Type candidateOwner) {
+    if (supportedOwner == null || candidateOwner == null) return supportedOwner == candidateOwner;
+    return matches(supportedOwner, candidateOwner);
+  }
+
+  private boolean allMatch(Type[] supportedTypes, Type[] candidates) {
+    if (supportedTypes.length != candidates.length) return false;
+
+    for (int i = 0; i < supportedTypes.length; i++) {
+      if (!matches(supportedTypes[i], candidates[i])) return false;
+    }
+
+    return true;
+  }
+
 }
@@ -24,13 +24,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 public final class GetInterceptorMetadata {
-  private final InstantiateInterface instantiateInterface;
+  private final BehaviourRegistry registry;
+  private final GetMockeryIndex getMockeryIndex;
 
-  public GetInterceptorMetadata() {
-    this.instantiateInterface = new InstantiateInterface();
+  public GetInterceptorMetadata(BehaviourRegistry registry) {
+    this.registry = registry;
+    this.getMockeryIndex = new GetMockeryIndex();
   }
 
   public InterceptorMetadata with(Class<?> mockingClass, Method method, Object[] args) {
+    InterceptorMetadata indexed = fromIndex(mockingClass, method, args);
+    if (indexed != null) return indexed;
+
     Annotation[] annotations = mockingClass.getAnnotations();
     List<InterceptorMetadata> interceptorsMetadata = new ArrayList<>();
 
@@ -39,10 +44,9 @@ public final class GetInterceptorMetadata {
           .getAnnotation(Interceptor.class);
       if (interceptorAnnotation == null) continue;
 
-      Metadata metadata = new Metadata(mockingClass,
-          method, args, annotation, method.getGenericReturnType());
-      Interceptor.Behaviour interceptor = instantiateInterface
-          .from(interceptorAnnotation.value());
+      Metadata metadata = MetadataAccess.metadata(mockingClass,
+          method, args, annotation, method.getGenericReturnType(), registry);
+      Interceptor.Behaviour interceptor = registry.from(interceptorAnnotation.value());
       interceptorsMetadata.add(new InterceptorMetadata(metadata, interceptor));
     }
 
@@ -59,4 +63,21 @@ public final class GetInterceptorMetadata {
     return interceptorsMetadata.get(0);
   }
 
+  /**
+   * Read only the interceptor annotation resolved by the annotation processor, if it has indexed the interface.
+   */
+  private InterceptorMetadata fromIndex(Class<?> mockingClass, Method method, Object[] args) {
+    MockeryIndex index = getMockeryIndex.from(mockingClass);
+    if (index == null) return null;
+
+    MockeryIndex.Entry entry = index.interceptor();
+    Annotation annotation = mockingClass.getAnnotation(entry.annotation);
+    if (annotation == null) return null;
+
+    Metadata metadata = MetadataAccess.metadata(mockingClass,
+        method, args, annotation, method.getGenericReturnType(), registry);
+    Interceptor.Behaviour interceptor = (Interceptor.Behaviour) registry.from(entry.behaviour);
+    return new InterceptorMetadata(metadata, interceptor);
+  }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * Resolve the interceptor and the mockeries of a method, checking that every one of them supports
+ * its associated type, unless the annotation processor already did. If any check fails the exception is propagated.
+ */
+final class GetInvocationPlan {
+  private final GetInterceptorMetadata getInterceptorMetadata;
+  private final GetMockeryMetadata getMockeryMetadata;
+  private final CheckSupportType checkSupportType;
+
+  GetInvocationPlan(BehaviourRegistry registry) {
+    this.getInterceptorMetadata = new GetInterceptorMetadata(registry);
+    this.getMockeryMetadata = new GetMockeryMetadata(registry);
+    this.checkSupportType = new CheckSupportType();
+  }
+
+  InvocationPlan from(Class<?> mockingClass, Method method) {
+    InterceptorMetadata interceptor = getInterceptorMetadata.
+        with(mockingClass, method, null);
+
+    Type[] typeParams = method.getGenericParameterTypes();
+    MockeryMetadata[] mockeryParams = new MockeryMetadata[typeParams.length];
+
+    for (int i = 0; i < typeParams.length; i++) {
+      Type typeParam = typeParams[i];
+
+      MockeryMetadata mockery = getMockeryMetadata
+          .fromParam(mockingClass, method, null, i);
+
+      if (mockery == null) {
+        String message = Messages.noMockeryFoundOnParam(mockingClass, method, i);
+        throw new RuntimeException(message);
+      }
+
+      if (!mockery.isChecked()) {
+        checkSupportType.from(mockingClass, method,
+            mockery, typeParam);
+      }
+
+      mockeryParams[i] = mockery;
+    }
+
+    Type adaptedTypeMethod = interceptor
+        .adaptType(method.getGenericReturnType());
+
+    MockeryMetadata mockeryMethod = getMockeryMetadata
+        .fromMethod(mockingClass, method, adaptedTypeMethod, null);
+
+    checkSupportType.from(mockingClass, method,
+        mockeryMethod, adaptedTypeMethod);
+
+    return new InvocationPlan(interceptor, mockeryParams, mockeryMethod);
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Instantiate the implementation of a mocked interface generated by the annotation processor, named after
+ * the interface plus {@link #SUFFIX}. If it is nested, the names of its enclosing classes are joined by {@code _$},
+ * so {@code Outer.Inner} does not collide with a top-level {@code Outer_Inner}.
+ */
+public final class GetMockeryImplementation {
+  public static final String SUFFIX = "_MockeryImpl";
+
+  /**
+   * Return a new instance of the generated implementation bound to the behaviours of {@code registry},
+   * or null if there is none, e.g. because the annotation processor did not run on the module of the interface
+   * or it was generated by a version whose implementations do not take a registry.
+   */
+  public <T> T from(Class<T> mockingClass, BehaviourRegistry registry) {
+    String name = generatedName(mockingClass, SUFFIX);
+
+    try {
+      Class<?> implementation = Class.forName(name, true, mockingClass.getClassLoader());
+      if (!mockingClass.isAssignableFrom(implementation)) return null;
+
+      Constructor<?> constructor = implementation.getConstructor(BehaviourRegistry.class);
+      return mockingClass.cast(constructor.newInstance(registry));
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      return null;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * The name of a class generated for the mocked interface by the annotation processor.
+   */
+  static String generatedName(Class<?> mockingClass, String suffix) {
+    return mockingClass.getName().replace("$", "_$") + suffix;
+  }
+
+}
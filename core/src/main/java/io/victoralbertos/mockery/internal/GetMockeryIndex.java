@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Load the {@link MockeryIndex} generated by the annotation processor for a mocked interface only the first time
+ * it is required, remembering as well the interfaces which have none.
+ */
+public final class GetMockeryIndex {
+  private static final Object NOT_GENERATED = new Object();
+  private static final ConcurrentMap<Class<?>, Object> indexes = new ConcurrentHashMap<>();
+  private final InstantiateInterface instantiateInterface;
+
+  public GetMockeryIndex() {
+    this.instantiateInterface = new InstantiateInterface();
+  }
+
+  /**
+   * Return the index of the interface, or null if the annotation processor has not generated one.
+   */
+  public MockeryIndex from(Class<?> mockingClass) {
+    Object index = indexes.get(mockingClass);
+    if (index == null) {
+      index = load(mockingClass);
+      Object previous = indexes.putIfAbsent(mockingClass, index);
+      if (previous != null) index = previous;
+    }
+
+    return index != NOT_GENERATED ? (MockeryIndex) index : null;
+  }
+
+  private Object load(Class<?> mockingClass) {
+    String name = GetMockeryImplementation.generatedName(mockingClass, MockeryIndex.SUFFIX);
+
+    try {
+      Class<?> index = Class.forName(name, true, mockingClass.getClassLoader());
+      if (!MockeryIndex.class.isAssignableFrom(index)) return NOT_GENERATED;
+      return instantiateInterface.from(index);
+    } catch (ClassNotFoundException e) {
+      return NOT_GENERATED;
+    }
+  }
+
+}
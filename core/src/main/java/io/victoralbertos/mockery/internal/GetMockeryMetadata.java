@@ -25,17 +25,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 public final class GetMockeryMetadata {
-  private final InstantiateInterface instantiateInterface;
+  private final BehaviourRegistry registry;
+  private final GetMockeryIndex getMockeryIndex;
 
-  public GetMockeryMetadata() {
-    this.instantiateInterface = new InstantiateInterface();
+  public GetMockeryMetadata(BehaviourRegistry registry) {
+    this.registry = registry;
+    this.getMockeryIndex = new GetMockeryIndex();
   }
 
   public MockeryMetadata fromMethod(Class<?> mockingClass, Method method, Type typeMethod, Object[] args) {
-    Annotation[] annotationsMethod = method.getAnnotations();
-
-    MockeryMetadata mockery = mockeryMetadata(mockingClass, method, args,
-        typeMethod, annotationsMethod);
+    MockeryMetadata mockery;
+
+    MockeryIndex.Entry entry = indexed(mockingClass, method, -1);
+    if (entry != null) {
+      Annotation annotation = entry.annotation != null ? method.getAnnotation(entry.annotation) : null;
+      mockery = mockeryMetadata(mockingClass, method, args, typeMethod, entry, annotation);
+    } else {
+      Annotation[] annotationsMethod = method.getAnnotations();
+      mockery = mockeryMetadata(mockingClass, method, args,
+          typeMethod, annotationsMethod);
+    }
 
     if (mockery == null) {
       String message = Messages
@@ -50,12 +59,44 @@ public final class GetMockeryMetadata {
     Type typeParam = method.getGenericParameterTypes()[paramPosition];
     Annotation[] annotationsParam = method.getParameterAnnotations()[paramPosition];
 
+    MockeryIndex.Entry entry = indexed(mockingClass, method, paramPosition);
+    if (entry != null) {
+      Annotation annotation = null;
+      for (Annotation candidate : annotationsParam) {
+        if (candidate.annotationType() == entry.annotation) annotation = candidate;
+      }
+      return mockeryMetadata(mockingClass, method, args, typeParam, entry, annotation);
+    }
+
     MockeryMetadata mockery = mockeryMetadata(mockingClass, method, args,
         typeParam, annotationsParam);
 
     return mockery;
   }
 
+  /**
+   * Return the mockery resolved by the annotation processor for the method, or for its param when the position
+   * is not negative, or null if the method has not been indexed.
+   */
+  private MockeryIndex.Entry indexed(Class<?> mockingClass, Method method, int paramPosition) {
+    if (method.getDeclaringClass() != mockingClass) return null;
+
+    MockeryIndex index = getMockeryIndex.from(mockingClass);
+    if (index == null) return null;
+
+    return paramPosition < 0 ? index.mockeryOfMethod(method.getName())
+        : index.mockeryOfParam(method.getName(), paramPosition);
+  }
+
+  private MockeryMetadata mockeryMetadata(Class<?> mockingClass, Method method, Object[] args, Type type,
+      MockeryIndex.Entry entry, Annotation annotation) {
+    if (annotation == null) return null;
+
+    Metadata metadata = MetadataAccess.metadata(mockingClass, method, args, annotation, type, registry);
+    Mockery.Behaviour mockery = (Mockery.Behaviour) registry.from(entry.behaviour);
+    return new MockeryMetadata(metadata, mockery, entry.checked);
+  }
+
   private MockeryMetadata mockeryMetadata(Class<?> mockingClass, Method method, Object[] args, Type type,
       Annotation[] annotations) {
     List<MockeryMetadata> mockeriesMetadata = new ArrayList<>();
@@ -65,8 +106,8 @@ public final class GetMockeryMetadata {
           .getAnnotation(Mockery.class);
       if (mockeryAnnotation == null) continue;
 
-      Metadata metadata = new Metadata<>(mockingClass, method, args, annotation, type);
-      Mockery.Behaviour mockery = instantiateInterface.from(mockeryAnnotation.value());
+      Metadata metadata = MetadataAccess.metadata(mockingClass, method, args, annotation, type, registry);
+      Mockery.Behaviour mockery = registry.from(mockeryAnnotation.value());
       mockeriesMetadata.add(new MockeryMetadata(metadata, mockery));
     }
 
@@ -18,15 +18,18 @@ package io.victoralbertos.mockery.internal;
 
 import io.victoralbertos.mockery.api.Interceptor;
 import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.Stateful;
 import java.lang.reflect.Type;
 
 public final class InterceptorMetadata {
   private final Metadata metadata;
   private final Interceptor.Behaviour interceptor;
+  private final boolean stateful;
 
   public InterceptorMetadata(Metadata metadata, Interceptor.Behaviour interceptor) {
     this.metadata = metadata;
     this.interceptor = interceptor;
+    this.stateful = interceptor.getClass().isAnnotationPresent(Stateful.class);
   }
 
   public Object onLegalMock(Object mock) {
@@ -48,5 +51,18 @@ public final class InterceptorMetadata {
   public Type adaptType(Type responseType) {
     return interceptor.adaptType(responseType, metadata);
   }
+
+  /**
+   * Return a copy of this interceptor bound to the arguments of the current method call.
+   * A {@link Stateful} interceptor is resolved again, so every call gets its own instance.
+   */
+  public InterceptorMetadata withArgs(Object[] args) {
+    Metadata metadataWithArgs = MetadataAccess.metadata(metadata.getMockingClass(),
+        metadata.getMethod(), args, metadata.getAnnotation(), metadata.getType(),
+        MetadataAccess.registryOf(metadata));
+    Interceptor.Behaviour interceptor = stateful ? MetadataAccess.registryOf(metadata).from(this.interceptor.getClass())
+        : this.interceptor;
+    return new InterceptorMetadata(metadataWithArgs, interceptor);
+  }
 }
 
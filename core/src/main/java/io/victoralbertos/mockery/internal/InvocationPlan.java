@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+/**
+ * The immutable outcome of resolving every annotation of a mocked method: the interceptor,
+ * the mockery of each param and the mockery of the return type, all of them already checked
+ * against their supported types. It is computed once per method and it is shared between calls,
+ * so only the args-dependent work is left for each invocation.
+ */
+final class InvocationPlan {
+  private final InterceptorMetadata interceptor;
+  private final MockeryMetadata[] mockeryParams;
+  private final MockeryMetadata mockeryMethod;
+
+  InvocationPlan(InterceptorMetadata interceptor, MockeryMetadata[] mockeryParams,
+      MockeryMetadata mockeryMethod) {
+    this.interceptor = interceptor;
+    this.mockeryParams = mockeryParams;
+    this.mockeryMethod = mockeryMethod;
+  }
+
+  InterceptorMetadata interceptor(Object[] args) {
+    return interceptor.withArgs(args);
+  }
+
+  int paramsCount() {
+    return mockeryParams.length;
+  }
+
+  MockeryMetadata mockeryParam(int position, Object[] args) {
+    return mockeryParams[position].withArgs(args);
+  }
+
+  MockeryMetadata mockeryMethod(Object[] args) {
+    return mockeryMethod.withArgs(args);
+  }
+
+}
@@ -103,4 +103,11 @@ public final class Messages {
     return String.format(message, mockingClass.getSimpleName(), method.getName());
   }
 
+  public static String seedWithPooledLegalValues(Class<?> aClass) {
+    String message = "When building %s both a seed and pooled legal values were set.\n"
+        + "The pools are filled on a background thread, so the values they hand out can not be replayed from the seed.\n"
+        + "To fix it, remove either seed() or poolLegalValues() from the builder.\n";
+    return String.format(message, aClass.getSimpleName());
+  }
+
 }
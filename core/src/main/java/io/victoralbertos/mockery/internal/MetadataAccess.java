@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.Metadata;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * Reach the members of {@link Metadata} which are kept out of the public api, so the {@link BehaviourRegistry}
+ * of a mocked interface is only handled by the internal classes. Its only implementation is supplied by
+ * {@link Metadata} itself when that class is initialized.
+ */
+public abstract class MetadataAccess {
+  private static volatile MetadataAccess instance;
+
+  public static void set(MetadataAccess access) {
+    if (instance != null) throw new IllegalStateException(MetadataAccess.class.getSimpleName() + " already set");
+    instance = access;
+  }
+
+  /**
+   * Return a metadata bound to {@code registry}, so every behaviour it resolves is shared
+   * with the rest of the calls to the same mocked interface.
+   */
+  public static <A extends Annotation> Metadata<A> metadata(Class<?> mockingClass, Method method, Object[] args,
+      A annotation, Type type, BehaviourRegistry registry) {
+    return get().create(mockingClass, method, args, annotation, type, registry);
+  }
+
+  public static BehaviourRegistry registryOf(Metadata<?> metadata) {
+    return get().registry(metadata);
+  }
+
+  private static MetadataAccess get() {
+    if (instance != null) return instance;
+
+    try {
+      Class.forName(Metadata.class.getName(), true, Metadata.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+    return instance;
+  }
+
+  protected abstract <A extends Annotation> Metadata<A> create(Class<?> mockingClass, Method method,
+      Object[] args, A annotation, Type type, BehaviourRegistry registry);
+
+  protected abstract BehaviourRegistry registry(Metadata<?> metadata);
+}
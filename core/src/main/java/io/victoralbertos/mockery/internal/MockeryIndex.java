@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.Interceptor;
+import io.victoralbertos.mockery.api.Mockery;
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The annotations of a mocked interface resolved by the annotation processor: its interceptor and the mockery
+ * of every method and param, each one with its behaviour class. The generated subclasses, named after the interface
+ * plus {@link #SUFFIX}, let the runtime read only the annotations it needs, instead of scanning all of them
+ * looking for the ones annotated with {@link Interceptor} or {@link Mockery}.
+ */
+public abstract class MockeryIndex {
+  public static final String SUFFIX = "_MockeryIndex";
+  /**
+   * Stands for a method or param without mockery.
+   */
+  protected static final Entry NONE = new Entry(null, null, false);
+  private final Entry interceptor;
+  private final Map<String, Entry[]> methods;
+
+  protected MockeryIndex(Entry interceptor) {
+    this.interceptor = interceptor;
+    this.methods = new HashMap<>();
+  }
+
+  protected static Entry interceptor(Class<? extends Annotation> annotation,
+      Class<? extends Interceptor.Behaviour> behaviour) {
+    return new Entry(annotation, behaviour, false);
+  }
+
+  protected static Entry mockery(Class<? extends Annotation> annotation,
+      Class<? extends Mockery.Behaviour> behaviour) {
+    return new Entry(annotation, behaviour, false);
+  }
+
+  /**
+   * A mockery of a param whose type has been checked by the annotation processor against the supported ones,
+   * so the runtime trusts it instead of checking it again.
+   */
+  protected static Entry checkedMockery(Class<? extends Annotation> annotation,
+      Class<? extends Mockery.Behaviour> behaviour) {
+    return new Entry(annotation, behaviour, true);
+  }
+
+  /**
+   * Index a method of the interface.
+   * @param mockeries the mockery of the method followed by the one of every param, by position.
+   */
+  protected final void method(String name, Entry... mockeries) {
+    methods.put(name, mockeries);
+  }
+
+  Entry interceptor() {
+    return interceptor;
+  }
+
+  /**
+   * Return the mockery of the method, {@link #NONE} if it has none, or null if the method is not indexed.
+   */
+  Entry mockeryOfMethod(String name) {
+    Entry[] mockeries = methods.get(name);
+    return mockeries != null ? mockeries[0] : null;
+  }
+
+  /**
+   * Return the mockery of the param, {@link #NONE} if it has none, or null if the method is not indexed.
+   */
+  Entry mockeryOfParam(String name, int position) {
+    Entry[] mockeries = methods.get(name);
+    return mockeries != null ? mockeries[position + 1] : null;
+  }
+
+  protected static final class Entry {
+    final Class<? extends Annotation> annotation;
+    final Class<?> behaviour;
+    final boolean checked;
+
+    private Entry(Class<? extends Annotation> annotation, Class<?> behaviour, boolean checked) {
+      this.annotation = annotation;
+      this.behaviour = behaviour;
+      this.checked = checked;
+    }
+  }
+
+}
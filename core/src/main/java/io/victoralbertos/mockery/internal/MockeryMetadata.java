@@ -18,15 +18,27 @@ package io.victoralbertos.mockery.internal;
 
 import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.Stateful;
 import java.lang.reflect.Type;
 
 public final class MockeryMetadata {
   private final Metadata metadata;
   private final Mockery.Behaviour mockery;
+  private final boolean checked;
+  private final boolean stateful;
 
   public MockeryMetadata(Metadata metadata, Mockery.Behaviour mockery) {
+    this(metadata, mockery, false);
+  }
+
+  /**
+   * @param checked if its associated type has already been checked against the supported ones at compile time.
+   */
+  MockeryMetadata(Metadata metadata, Mockery.Behaviour mockery, boolean checked) {
     this.metadata = metadata;
     this.mockery = mockery;
+    this.checked = checked;
+    this.stateful = mockery.getClass().isAnnotationPresent(Stateful.class);
   }
 
   public Object legal() {
@@ -45,6 +57,23 @@ public final class MockeryMetadata {
     return mockery.supportedTypes(metadata);
   }
 
+  boolean isChecked() {
+    return checked;
+  }
+
+  /**
+   * Return a copy of this mockery bound to the arguments of the current method call.
+   * A {@link Stateful} mockery is resolved again, so every call gets its own instance.
+   */
+  public MockeryMetadata withArgs(Object[] args) {
+    Metadata metadataWithArgs = MetadataAccess.metadata(metadata.getMockingClass(),
+        metadata.getMethod(), args, metadata.getAnnotation(), metadata.getType(),
+        MetadataAccess.registryOf(metadata));
+    Mockery.Behaviour mockery = stateful ? MetadataAccess.registryOf(metadata).from(this.mockery.getClass())
+        : this.mockery;
+    return new MockeryMetadata(metadataWithArgs, mockery, checked);
+  }
+
   @Override public String toString() {
     return mockery.getClass().getSimpleName();
   }
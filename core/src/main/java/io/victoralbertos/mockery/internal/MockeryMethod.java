@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import java.lang.reflect.Method;
+
+/**
+ * A method of a mocked interface bound to its {@link InvocationPlan}, which is resolved the first time
+ * the method is called and reused afterwards. Both {@link MockeryProxy} and the implementations generated
+ * by the annotation processor dispatch their calls to it, the latter straight from a field of their own,
+ * without a dynamic proxy nor a lookup by {@link Method}.
+ */
+public final class MockeryMethod {
+  private final Class<?> mockingClass;
+  private final Method method;
+  private final GetInvocationPlan getInvocationPlan;
+  private volatile InvocationPlan plan;
+
+  MockeryMethod(Class<?> mockingClass, Method method, GetInvocationPlan getInvocationPlan) {
+    this.mockingClass = mockingClass;
+    this.method = method;
+    this.getInvocationPlan = getInvocationPlan;
+  }
+
+  /**
+   * Look up the method of the mocked interface by its name and the erasure of its params.
+   * Meant to be called from the implementations generated by the annotation processor.
+   * @param registry the behaviours of the instance being built.
+   */
+  public static MockeryMethod of(BehaviourRegistry registry, Class<?> mockingClass, String name,
+      Class<?>... paramTypes) {
+    try {
+      Method method = mockingClass.getMethod(name, paramTypes);
+      return new MockeryMethod(mockingClass, method, new GetInvocationPlan(registry));
+    } catch (NoSuchMethodException e) {
+      String message = Messages.noMethodFoundForMethodName(mockingClass, name);
+      throw new RuntimeException(message);
+    }
+  }
+
+  /**
+   * Validate the args and return the response of the interceptor, either the legal mock or the illegal one.
+   * @param args the args of the call, or null if the method has no params.
+   */
+  public Object invoke(Object[] args) {
+    InvocationPlan plan = plan();
+    InterceptorMetadata interceptor = plan.interceptor(args);
+
+    try {
+      applyValidationsToParams(plan, args);
+
+      MockeryMetadata mockery = plan.mockeryMethod(args);
+      Object response = mockery.legal();
+      return interceptor.onLegalMock(response);
+    } catch (AssertionError e) {
+      return interceptor.onIllegalMock(e);
+    }
+  }
+
+  private void applyValidationsToParams(InvocationPlan plan, Object[] args) {
+    for (int i = 0; i < plan.paramsCount(); i++) {
+      MockeryMetadata mockery = plan.mockeryParam(i, args);
+      Object valueParam = args[i];
+      mockery.validate(valueParam);
+    }
+  }
+
+  /**
+   * If resolving the plan fails nothing is cached, so the exception is thrown again on every call.
+   * Concurrent first calls may resolve it more than once, which is harmless as plans are immutable.
+   */
+  private InvocationPlan plan() {
+    InvocationPlan plan = this.plan;
+    if (plan != null) return plan;
+
+    plan = getInvocationPlan.from(mockingClass, method);
+    this.plan = plan;
+    return plan;
+  }
+
+}
@@ -18,19 +18,21 @@ package io.victoralbertos.mockery.internal;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Dispatch the calls to a mocked interface which has no implementation generated by the annotation processor.
+ */
 public final class MockeryProxy implements InvocationHandler {
   private final Class<?> mockingClass;
-  private final GetInterceptorMetadata getInterceptorMetadata;
-  private final GetMockeryMetadata getMockeryMetadata;
-  private final CheckSupportType checkSupportType;
+  private final GetInvocationPlan getInvocationPlan;
+  private final ConcurrentMap<Method, MockeryMethod> methods;
 
-  public MockeryProxy(Class<?> mockingClass) {
+  public MockeryProxy(Class<?> mockingClass, BehaviourRegistry registry) {
     this.mockingClass = mockingClass;
-    this.getInterceptorMetadata = new GetInterceptorMetadata();
-    this.getMockeryMetadata = new GetMockeryMetadata();
-    this.checkSupportType = new CheckSupportType();
+    this.getInvocationPlan = new GetInvocationPlan(registry);
+    this.methods = new ConcurrentHashMap<>();
   }
 
   @Override public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
@@ -38,48 +40,16 @@ public final class MockeryProxy implements InvocationHandler {
       return method.invoke(this, args);
     }
 
-    InterceptorMetadata interceptor = getInterceptorMetadata.
-        with(mockingClass, method, args);
-
-    try {
-      applyValidationsToParams(method, args);
-
-      Type adaptedTypeMethod = interceptor
-          .adaptType(method.getGenericReturnType());
-
-      MockeryMetadata mockery = getMockeryMetadata
-          .fromMethod(mockingClass, method, adaptedTypeMethod, args);
-
-      checkSupportType.from(mockingClass, method,
-          mockery, adaptedTypeMethod);
-
-      Object response = mockery.legal();
-      return interceptor.onLegalMock(response);
-    } catch (AssertionError e) {
-      return interceptor.onIllegalMock(e);
-    }
+    return mockeryMethod(method).invoke(args);
   }
 
-  private void applyValidationsToParams(Method method, Object[] args) {
-    Type[] typeParams = method.getGenericParameterTypes();
-
-    for (int i = 0; i < typeParams.length; i++) {
-      Type typeParam = typeParams[i];
-
-      MockeryMetadata mockery = getMockeryMetadata
-          .fromParam(mockingClass, method, args, i);
+  private MockeryMethod mockeryMethod(Method method) {
+    MockeryMethod mockeryMethod = methods.get(method);
+    if (mockeryMethod != null) return mockeryMethod;
 
-      if (mockery == null) {
-        String message = Messages.noMockeryFoundOnParam(mockingClass, method, i);
-        throw new RuntimeException(message);
-      }
-
-      checkSupportType.from(mockingClass, method,
-          mockery, typeParam);
-
-      Object valueParam = args[i];
-      mockery.validate(valueParam);
-    }
+    mockeryMethod = new MockeryMethod(mockingClass, method, getInvocationPlan);
+    MockeryMethod previous = methods.putIfAbsent(method, mockeryMethod);
+    return previous != null ? previous : mockeryMethod;
   }
 
 }
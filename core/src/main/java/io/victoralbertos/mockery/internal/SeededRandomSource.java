@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.RandomSource;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link RandomSource} derived from a fixed seed. Every thread draws from a {@link Random} of its own,
+ * created the first time the thread calls {@link #random()} and seeded from the seed and the number of threads
+ * served before, so concurrent calls neither contend on nor interleave their draws in a shared instance.
+ * A single-threaded run replays exactly the same values on every run; when several threads draw values,
+ * the stream each one gets depends on the order in which they first call {@link #random()}.
+ */
+public final class SeededRandomSource implements RandomSource {
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  private final long seed;
+  private final AtomicLong threads;
+  private final ThreadLocal<Random> random;
+
+  public SeededRandomSource(long seed) {
+    this.seed = seed;
+    this.threads = new AtomicLong();
+    this.random = new ThreadLocal<Random>() {
+      @Override protected Random initialValue() {
+        return new Random(mix(SeededRandomSource.this.seed
+            + GOLDEN_GAMMA * threads.getAndIncrement()));
+      }
+    };
+  }
+
+  @Override public Random random() {
+    return random.get();
+  }
+
+  /**
+   * The finalizer of SplitMix64, so consecutive threads get seeds far apart from each other.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default {@link MockeryClock}. A single daemon thread keeps track of every pending task and runs it
+ * once its delay has elapsed, so no thread is held while waiting.
+ */
+public final class SystemClock implements MockeryClock {
+  public static final SystemClock INSTANCE = new SystemClock();
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  private SystemClock() {
+    this.scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Mockery-delay");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  @Override public long millis() {
+    return System.currentTimeMillis();
+  }
+
+  @Override public Future<?> schedule(Runnable task, long delayMillis) {
+    return scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.RandomSource;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The default {@link RandomSource}. It hands out a single {@link Random} which draws every value from
+ * the {@link ThreadLocalRandom} of the calling thread, so it neither allocates nor contends,
+ * even when the instance is kept by a third party and used from other threads.
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+  public static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+  private final Random random;
+
+  private ThreadLocalRandomSource() {
+    this.random = new CurrentThreadRandom();
+  }
+
+  @Override public Random random() {
+    return random;
+  }
+
+  private static final class CurrentThreadRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    @Override protected int next(int bits) {
+      return ThreadLocalRandom.current().nextInt() >>> (32 - bits);
+    }
+
+    @Override public int nextInt() {
+      return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override public int nextInt(int bound) {
+      return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override public long nextLong() {
+      return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override public boolean nextBoolean() {
+      return ThreadLocalRandom.current().nextBoolean();
+    }
+
+    @Override public float nextFloat() {
+      return ThreadLocalRandom.current().nextFloat();
+    }
+
+    @Override public double nextDouble() {
+      return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override public double nextGaussian() {
+      return ThreadLocalRandom.current().nextGaussian();
+    }
+  }
+}
@@ -21,18 +21,16 @@ import io.victoralbertos.mockery.api.JsonConverter;
 import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.Mockery;
 import io.victoralbertos.mockery.api.built_in_mockery.*;
-import io.victoralbertos.mockery.internal.InstantiateInterface;
 import io.victoralbertos.mockery.internal.Messages;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 public final class DTOJsonMockery implements Mockery.Behaviour<DTOJson> {
   private final DTOMockery dtoMockery;
-  private final InstantiateInterface instantiateInterface;
 
   public DTOJsonMockery() {
     dtoMockery = new DTOMockery();
-    instantiateInterface = new InstantiateInterface();
   }
 
   /**
@@ -90,6 +88,7 @@ public final class DTOJsonMockery implements Mockery.Behaviour<DTOJson> {
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
@@ -106,7 +105,7 @@ public final class DTOJsonMockery implements Mockery.Behaviour<DTOJson> {
       throw new RuntimeException(message);
     }
 
-    JolyglotGenerics jolyglot = instantiateInterface.from(jsonConverter.value());
+    JolyglotGenerics jolyglot = MetadataAccess.registryOf(metadata).from(jsonConverter.value());
     return jolyglot;
   }
 
@@ -126,7 +125,8 @@ public final class DTOJsonMockery implements Mockery.Behaviour<DTOJson> {
       }
     };
 
-    return new Metadata<>(metadata.getMockingClass(),
-        metadata.getMethod(), metadata.getArgs(), dto, metadata.getType());
+    return MetadataAccess.metadata(metadata.getMockingClass(),
+        metadata.getMethod(), metadata.getArgs(), dto, metadata.getType(),
+        MetadataAccess.registryOf(metadata));
   }
 }
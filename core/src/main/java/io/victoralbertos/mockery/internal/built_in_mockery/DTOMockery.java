@@ -19,23 +19,17 @@ package io.victoralbertos.mockery.internal.built_in_mockery;
 import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.Mockery;
 import io.victoralbertos.mockery.api.built_in_mockery.DTO;
-import io.victoralbertos.mockery.internal.InstantiateInterface;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 public final class DTOMockery implements Mockery.Behaviour<DTO> {
-  private final InstantiateInterface instantiateInterface;
-
-  public DTOMockery() {
-    instantiateInterface = new InstantiateInterface();
-  }
-
   /**
    * Provide a legal value deferring to the {@link Mockery.Behaviour} implementation supplied.
    */
   @Override public Object legal(Metadata<DTO> metadata) {
     DTO dto = metadata.getAnnotation();
-    DTO.Behaviour behaviour = instantiateInterface.from(dto.value());
+    DTO.Behaviour behaviour = MetadataAccess.registryOf(metadata).from(dto.value());
     return behaviour.legal();
   }
 
@@ -51,7 +45,7 @@ public final class DTOMockery implements Mockery.Behaviour<DTO> {
    */
   @Override public void validate(Metadata<DTO> metadata, Object candidate) throws AssertionError {
     DTO dto = metadata.getAnnotation();
-    DTO.Behaviour behaviour = instantiateInterface.from(dto.value());
+    DTO.Behaviour behaviour = MetadataAccess.registryOf(metadata).from(dto.value());
     behaviour.validate(candidate);
   }
 
@@ -81,6 +75,7 @@ public final class DTOMockery implements Mockery.Behaviour<DTO> {
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
@@ -19,23 +19,17 @@ package io.victoralbertos.mockery.internal.built_in_mockery;
 import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.Mockery;
 import io.victoralbertos.mockery.api.built_in_mockery.DTOArgs;
-import io.victoralbertos.mockery.internal.InstantiateInterface;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 public final class DTOMockeryArgs implements Mockery.Behaviour<DTOArgs> {
-  private final InstantiateInterface instantiateInterface;
-
-  public DTOMockeryArgs() {
-    instantiateInterface = new InstantiateInterface();
-  }
-
   /**
    * Same as {@link DTOMockery}
    */
   @Override public Object legal(Metadata<DTOArgs> metadata) {
     DTOArgs dtoArgs = metadata.getAnnotation();
-    DTOArgs.Behaviour behaviour = instantiateInterface.from(dtoArgs.value());
+    DTOArgs.Behaviour behaviour = MetadataAccess.registryOf(metadata).from(dtoArgs.value());
     return behaviour.legal(metadata.getArgs());
   }
 
@@ -51,7 +45,7 @@ public final class DTOMockeryArgs implements Mockery.Behaviour<DTOArgs> {
    */
   @Override public void validate(Metadata<DTOArgs> metadata, Object candidate) throws AssertionError {
     DTOArgs dtoArgs = metadata.getAnnotation();
-    DTOArgs.Behaviour behaviour = instantiateInterface.from(dtoArgs.value());
+    DTOArgs.Behaviour behaviour = MetadataAccess.registryOf(metadata).from(dtoArgs.value());
     behaviour.validate(candidate);
   }
 
@@ -81,6 +75,7 @@ public final class DTOMockeryArgs implements Mockery.Behaviour<DTOArgs> {
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
@@ -23,22 +23,34 @@ import io.victoralbertos.mockery.api.built_in_mockery.Enum;
 import io.victoralbertos.mockery.internal.Messages;
 import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.Random;
 
 
 public final class EnumMockery implements Mockery.Behaviour<Enum> {
   private final SafetyCast safetyCast;
+  private final LegalValuesPool legalValuesPool;
+  private final LegalValuesPool.Generator<Enum> generator;
 
   public EnumMockery() {
-    safetyCast = new SafetyCast();
+    this(null);
+  }
+
+  /**
+   * @param legalValuesPool if not null, the legal values are handed out from this pool instead of being picked per call.
+   */
+  public EnumMockery(LegalValuesPool legalValuesPool) {
+    this.safetyCast = new SafetyCast();
+    this.legalValuesPool = legalValuesPool;
+    this.generator = new LegalValuesPool.Generator<Enum>() {
+      @Override public Object legal(Metadata<Enum> metadata) {
+        return pick(metadata);
+      }
+    };
   }
 
   /**
    * Return as legal value a random one from the array supplied, or if legal value was set then return that.
    */
   @Override public Object legal(Metadata<Enum> metadata) {
-    throwExceptionOnEmptyArray(metadata);
-
     Enum enumAnnotation = metadata.getAnnotation();
 
     String defaultLegal = enumAnnotation.legal();
@@ -47,28 +59,32 @@ public final class EnumMockery implements Mockery.Behaviour<Enum> {
           metadata.getType());
     }
 
-    int length = enumAnnotation.value().length;
-    int randomIndex = new Random().nextInt(length);
+    if (legalValuesPool != null) {
+      return legalValuesPool.legal(metadata, generator);
+    }
+
+    return pick(metadata);
+  }
+
+  private Object pick(Metadata<Enum> metadata) {
+    String[] values = metadata.getAnnotation().value();
+    if (values.length == 0) throwExceptionOnEmptyArray(metadata);
 
-    String result = enumAnnotation.value()[randomIndex];
-    return safetyCast.with(result, metadata.getType());
+    int randomIndex = metadata.getRandomSource().random().nextInt(values.length);
+    return safetyCast.with(values[randomIndex], metadata.getType());
   }
 
   /**
    * Return empty if type is string, otherwise return 0.
    */
   @Override public Object illegal(Metadata<Enum> metadata) {
-    throwExceptionOnEmptyArray(metadata);
-
     String defaultOptional = metadata.getAnnotation().illegal();
     Type type = metadata.getType();
 
     if (!defaultOptional.isEmpty()) {
       return safetyCast.with(defaultOptional, metadata.getType());
-    } else if (type.equals(String.class)) {
-      return safetyCast.with("", type);
     } else {
-      return safetyCast.with(0, type);
+      return safetyCast.empty(type);
     }
   }
 
@@ -76,10 +92,9 @@ public final class EnumMockery implements Mockery.Behaviour<Enum> {
    * Validate {@code candidate} checking if its value is present in the array supplied.
    */
   @Override public void validate(Metadata<Enum> metadata, Object candidate) throws AssertionError {
-    throwExceptionOnEmptyArray(metadata);
-
     boolean valid = false;
     String[] values = metadata.getAnnotation().value();
+    if (values.length == 0) throwExceptionOnEmptyArray(metadata);
 
     for (String value : values) {
       if (candidate == null) break;
@@ -100,8 +115,11 @@ public final class EnumMockery implements Mockery.Behaviour<Enum> {
 
   /**
    * Support {@link SupportedTypes#NUMERIC} and {@link SupportedTypes#TEXT} {@code type}.
+   * As the supported types are checked once per method, an empty array is rejected here rather than on every call.
    */
   @Override public Type[] supportedTypes(Metadata<Enum> metadata) {
+    throwExceptionOnEmptyArray(metadata);
+
     Type[] types = SupportedTypes.concat(SupportedTypes.NUMERIC, SupportedTypes.TEXT);
     return types;
   }
@@ -109,6 +127,7 @@ public final class EnumMockery implements Mockery.Behaviour<Enum> {
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
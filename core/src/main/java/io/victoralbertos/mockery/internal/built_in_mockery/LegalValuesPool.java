@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_mockery;
+
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.internal.MetadataAccess;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keep a ring buffer of pre-generated legal values for every annotation and type, handing them out without locking.
+ * The ring is filled in the background the first time it is used, and filled again with new values every time
+ * all of them have been handed out. Until a slot is filled, the value is generated on the calling thread.
+ * Which values are handed out depends on the timing of the background thread, so pools can not be replayed
+ * from a seed.
+ */
+public final class LegalValuesPool {
+  private final int mask;
+  private final ConcurrentMap<List<Object>, Ring<?>> rings;
+
+  /**
+   * @param size the amount of values to keep per annotation and type, rounded up to a power of two.
+   */
+  public LegalValuesPool(int size) {
+    if (size <= 0) throw new IllegalArgumentException("Pool size must be a positive value");
+
+    int capacity = Integer.highestOneBit(size);
+    if (capacity < size) capacity <<= 1;
+
+    this.mask = capacity - 1;
+    this.rings = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Generates the values to be pooled.
+   */
+  public interface Generator<A extends Annotation> {
+    Object legal(Metadata<A> metadata);
+  }
+
+  public <A extends Annotation> Object legal(Metadata<A> metadata, Generator<A> generator) {
+    A annotation = metadata.getAnnotation();
+    Type type = metadata.getType();
+    List<Object> key = Arrays.<Object>asList(annotation, type);
+
+    Ring<?> ring = rings.get(key);
+    if (ring == null) {
+      Metadata<A> metadataWithoutArgs = MetadataAccess.metadata(metadata.getMockingClass(),
+          metadata.getMethod(), null, annotation, type, MetadataAccess.registryOf(metadata));
+      ring = new Ring<>(metadataWithoutArgs, generator);
+      Ring<?> previous = rings.putIfAbsent(key, ring);
+      if (previous != null) ring = previous;
+    }
+
+    return ring.next();
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  private final class Ring<A extends Annotation> implements Runnable {
+    private final Metadata<A> metadata;
+    private final Generator<A> generator;
+    private final AtomicReferenceArray<Object> values;
+    private final AtomicLong cursor;
+    private final AtomicBoolean filling;
+
+    private Ring(Metadata<A> metadata, Generator<A> generator) {
+      this.metadata = metadata;
+      this.generator = generator;
+      this.values = new AtomicReferenceArray<>(mask + 1);
+      this.cursor = new AtomicLong();
+      this.filling = new AtomicBoolean();
+    }
+
+    private Object next() {
+      long index = cursor.getAndIncrement();
+      if ((index & mask) == 0) fill();
+
+      Object value = values.get((int) (index & mask));
+      return value != null ? value : generator.legal(metadata);
+    }
+
+    private void fill() {
+      if (filling.compareAndSet(false, true)) {
+        Holder.EXECUTOR.execute(this);
+      }
+    }
+
+    @Override public void run() {
+      try {
+        for (int i = 0; i < values.length(); i++) {
+          values.set(i, generator.legal(metadata));
+        }
+      } catch (RuntimeException ignore) {
+        //Left the remaining slots empty, so the error is thrown on the calling thread.
+      } finally {
+        filling.set(false);
+      }
+    }
+  }
+
+  private static final class Holder {
+    private static final ExecutorService EXECUTOR = Executors
+        .newSingleThreadExecutor(new ThreadFactory() {
+          @Override public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Mockery-pool");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+  }
+
+}
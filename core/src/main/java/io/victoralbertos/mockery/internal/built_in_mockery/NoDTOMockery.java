@@ -41,6 +41,7 @@ public final class NoDTOMockery implements Mockery.Behaviour<NoDTO> {
     return new Type[] {Object.class};
   }
 
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
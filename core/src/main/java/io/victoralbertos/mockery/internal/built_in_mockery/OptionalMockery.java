@@ -50,12 +50,12 @@ public final class OptionalMockery implements Mockery.Behaviour<Optional> {
     Type type = metadata.getType();
 
     if (type.equals(String.class)) {
-      return safetyCast.with("", type);
+      return safetyCast.empty(type);
     }
 
     for (Type numericType : SupportedTypes.NUMERIC) {
         if (type.equals(numericType)) {
-          return safetyCast.with(0, type);
+          return safetyCast.empty(type);
         }
     }
 
@@ -80,6 +80,7 @@ public final class OptionalMockery implements Mockery.Behaviour<Optional> {
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return true;
   }
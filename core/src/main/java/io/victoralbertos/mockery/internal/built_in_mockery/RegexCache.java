@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_mockery;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Keep the compiled {@link Pattern} and {@link RegexGenerator} of every regex, so they are built only once
+ * no matter how many values are generated or validated with them.
+ * The cache is shared by every mockery, and once it reaches its limit new regexes are compiled without being stored.
+ */
+public final class RegexCache {
+  static final int MAX_SIZE = 256;
+  private static final ConcurrentMap<String, Pattern> patterns = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, RegexGenerator> generators = new ConcurrentHashMap<>();
+
+  public Pattern pattern(String regex) {
+    Pattern pattern = patterns.get(regex);
+    if (pattern != null) return pattern;
+
+    pattern = Pattern.compile(regex);
+    if (patterns.size() >= MAX_SIZE) return pattern;
+
+    Pattern previous = patterns.putIfAbsent(regex, pattern);
+    return previous != null ? previous : pattern;
+  }
+
+  public RegexGenerator generator(String regex) {
+    RegexGenerator generator = generators.get(regex);
+    if (generator != null) return generator;
+
+    generator = new RegexGenerator(regex);
+    if (generators.size() >= MAX_SIZE) return generator;
+
+    RegexGenerator previous = generators.putIfAbsent(regex, generator);
+    return previous != null ? previous : generator;
+  }
+
+}
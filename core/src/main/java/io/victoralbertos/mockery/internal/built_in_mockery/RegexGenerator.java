@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_mockery;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generate random values matching a regex by walking its automaton, drawing every choice from the {@link Random}
+ * supplied by the caller, so the same instance can be shared between threads and seeded runs can be replayed.
+ * The regex is translated and walked the same way Generex does it.
+ */
+public final class RegexGenerator {
+  private static final Pattern QUOTED = Pattern.compile("\\\\Q(.*?)\\\\E");
+  private static final Pattern SPECIAL_CHARS = Pattern.compile("[.^$*+?(){|\\[\\\\@]");
+  private static final String[][] PREDEFINED_CHARACTER_CLASSES = {
+      {"\\\\d", "[0-9]"},
+      {"\\\\D", "[^0-9]"},
+      {"\\\\s", "[ \t\n\f\r]"},
+      {"\\\\S", "[^ \t\n\f\r]"},
+      {"\\\\w", "[a-zA-Z_0-9]"},
+      {"\\\\W", "[^a-zA-Z_0-9]"}
+  };
+  private static final double STOP_ON_ACCEPT_PROBABILITY = 0.3;
+
+  private final boolean empty;
+  private final State initialState;
+  private final Map<State, Transition[]> transitions;
+
+  /**
+   * @throws IllegalArgumentException if the translated regex is not a valid one.
+   */
+  public RegexGenerator(String regex) {
+    Automaton automaton = new RegExp(translate(regex)).toAutomaton();
+    this.empty = automaton.isEmpty();
+    this.initialState = automaton.getInitialState();
+    this.transitions = new IdentityHashMap<>();
+
+    for (State state : automaton.getStates()) {
+      List<Transition> sorted = state.getSortedTransitions(false);
+      transitions.put(state, sorted.toArray(new Transition[sorted.size()]));
+    }
+  }
+
+  /**
+   * If no value matches the regex, so none can be generated.
+   */
+  public boolean isEmpty() {
+    return empty;
+  }
+
+  /**
+   * Return a random value matching the regex.
+   */
+  public String generate(Random random) {
+    StringBuilder result = new StringBuilder();
+    State state = initialState;
+
+    while (true) {
+      if (state.isAccept() && result.length() >= 1
+          && random.nextDouble() < STOP_ON_ACCEPT_PROBABILITY) {
+        return result.toString();
+      }
+
+      Transition[] candidates = transitions.get(state);
+      if (candidates.length == 0) return result.toString();
+
+      Transition transition = candidates[random.nextInt(candidates.length)];
+      int range = transition.getMax() - transition.getMin() + 1;
+      result.append((char) (transition.getMin() + random.nextInt(range)));
+      state = transition.getDest();
+    }
+  }
+
+  private static String translate(String regex) {
+    Matcher matcher = QUOTED.matcher(regex);
+    StringBuffer requoted = new StringBuffer();
+    while (matcher.find()) {
+      String escaped = SPECIAL_CHARS.matcher(matcher.group(1)).replaceAll("\\\\$0");
+      matcher.appendReplacement(requoted, Matcher.quoteReplacement(escaped));
+    }
+    matcher.appendTail(requoted);
+
+    String translated = requoted.toString();
+    for (String[] characterClass : PREDEFINED_CHARACTER_CLASSES) {
+      translated = translated.replaceAll(characterClass[0], characterClass[1]);
+    }
+    return translated;
+  }
+
+}
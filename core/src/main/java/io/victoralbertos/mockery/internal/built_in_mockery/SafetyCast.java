@@ -17,29 +17,153 @@
 package io.victoralbertos.mockery.internal.built_in_mockery;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Perform a cast from {@code object} to its hidden type.
  * Support for common types both primitives and objects on Java platform.
+ * Numbers are converted directly between numeric types and strings are parsed straight into them,
+ * so the values are not round-tripped through {@code toString()}. A number which does not fit into the
+ * type, because it is out of its range or it is not integral for an integral type, fails as its string would.
  */
 public final class SafetyCast {
+  private static final Map<Type, Kind> kinds = kinds();
 
   public Object with(Object object, Type type) {
-    Class classType = (Class) type;
-
-    if (classType.equals(int.class) || classType.equals(Integer.class)) {
-      return Integer.valueOf(object.toString());
-    } else if (classType.equals(long.class) || classType.equals(Long.class)) {
-      return Long.valueOf(object.toString());
-    } else if (classType.equals(float.class) || classType.equals(Float.class)) {
-      return Float.valueOf(object.toString());
-    } else if (classType.equals(double.class) || classType.equals(Double.class)) {
-      return Double.valueOf(object.toString());
-    } else if (classType.equals(String.class)) {
-      return object.toString();
+    Kind kind = kindOf(type);
+
+    if (object instanceof Number) {
+      return kind.fromNumber((Number) object);
     }
 
-    throw new RuntimeException("Type does not match any common java type");
+    return kind.fromString(object.toString());
+  }
+
+  /**
+   * Return an empty string if {@code type} is text, otherwise return 0, using always the same instance.
+   */
+  public Object empty(Type type) {
+    return kindOf(type).empty;
+  }
+
+  private Kind kindOf(Type type) {
+    Kind kind = kinds.get(type);
+    if (kind == null) throw new RuntimeException("Type does not match any common java type");
+    return kind;
+  }
+
+  private static Map<Type, Kind> kinds() {
+    Map<Type, Kind> kinds = new HashMap<>();
+    kinds.put(int.class, Kind.INT);
+    kinds.put(Integer.class, Kind.INT);
+    kinds.put(long.class, Kind.LONG);
+    kinds.put(Long.class, Kind.LONG);
+    kinds.put(float.class, Kind.FLOAT);
+    kinds.put(Float.class, Kind.FLOAT);
+    kinds.put(double.class, Kind.DOUBLE);
+    kinds.put(Double.class, Kind.DOUBLE);
+    kinds.put(String.class, Kind.STRING);
+    return kinds;
+  }
+
+  private enum Kind {
+    INT(Integer.valueOf(0)) {
+      @Override Object fromNumber(Number number) {
+        if (number instanceof Integer) return number;
+        if (number instanceof Short || number instanceof Byte) return Integer.valueOf(number.intValue());
+        if (number instanceof Long) {
+          long value = number.longValue();
+          if (value != (int) value) throw lossy(number, "int");
+          return Integer.valueOf((int) value);
+        }
+        if (number instanceof Double || number instanceof Float) {
+          double value = number.doubleValue();
+          if (value != (int) value) throw lossy(number, "int");
+          return Integer.valueOf((int) value);
+        }
+        return fromString(number.toString());
+      }
+
+      @Override Object fromString(String value) {
+        return Integer.valueOf(Integer.parseInt(value));
+      }
+    },
+    LONG(Long.valueOf(0)) {
+      @Override Object fromNumber(Number number) {
+        if (number instanceof Long) return number;
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+          return Long.valueOf(number.longValue());
+        }
+        if (number instanceof Double || number instanceof Float) {
+          double value = number.doubleValue();
+          if (value != Math.rint(value) || value < MIN_LONG || value >= -MIN_LONG) throw lossy(number, "long");
+          return Long.valueOf((long) value);
+        }
+        return fromString(number.toString());
+      }
+
+      @Override Object fromString(String value) {
+        return Long.valueOf(Long.parseLong(value));
+      }
+    },
+    FLOAT(Float.valueOf(0)) {
+      @Override Object fromNumber(Number number) {
+        if (number instanceof Float) return number;
+        float value = number.floatValue();
+        if (Float.isInfinite(value) && !Double.isInfinite(number.doubleValue())) throw lossy(number, "float");
+        return box(value);
+      }
+
+      @Override Object fromString(String value) {
+        return box(Float.parseFloat(value));
+      }
+
+      private Object box(float value) {
+        return Float.floatToRawIntBits(value) == 0 ? empty : Float.valueOf(value);
+      }
+    },
+    DOUBLE(Double.valueOf(0)) {
+      @Override Object fromNumber(Number number) {
+        if (number instanceof Double) return number;
+        return box(number.doubleValue());
+      }
+
+      @Override Object fromString(String value) {
+        return box(Double.parseDouble(value));
+      }
+
+      private Object box(double value) {
+        return Double.doubleToRawLongBits(value) == 0 ? empty : Double.valueOf(value);
+      }
+    },
+    STRING("") {
+      @Override Object fromNumber(Number number) {
+        return number.toString();
+      }
+
+      @Override Object fromString(String value) {
+        return value;
+      }
+    };
+
+    private static final double MIN_LONG = Long.MIN_VALUE;
+    final Object empty;
+
+    Kind(Object empty) {
+      this.empty = empty;
+    }
+
+    abstract Object fromNumber(Number number);
+
+    abstract Object fromString(String value);
+
+    /**
+     * The same exception that parsing the value would throw, so numbers fail as their strings do.
+     */
+    static NumberFormatException lossy(Number number, String type) {
+      return new NumberFormatException(number + " can not be converted to " + type + " without loss");
+    }
   }
 
 }
@@ -16,7 +16,6 @@
 
 package io.victoralbertos.mockery.internal.built_in_mockery;
 
-import com.mifmif.common.regex.Generex;
 import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.Mockery;
 import io.victoralbertos.mockery.api.SupportedTypes;
@@ -26,9 +25,26 @@ import java.lang.reflect.Type;
 
 public final class ValidMockery implements Mockery.Behaviour<Valid> {
   private final SafetyCast safetyCast;
+  private final RegexCache regexCache;
+  private final LegalValuesPool legalValuesPool;
+  private final LegalValuesPool.Generator<Valid> generator;
 
   public ValidMockery() {
-    safetyCast = new SafetyCast();
+    this(null);
+  }
+
+  /**
+   * @param legalValuesPool if not null, the legal values are handed out from this pool instead of being generated per call.
+   */
+  public ValidMockery(LegalValuesPool legalValuesPool) {
+    this.safetyCast = new SafetyCast();
+    this.regexCache = new RegexCache();
+    this.legalValuesPool = legalValuesPool;
+    this.generator = new LegalValuesPool.Generator<Valid>() {
+      @Override public Object legal(Metadata<Valid> metadata) {
+        return generate(metadata);
+      }
+    };
   }
 
   /**
@@ -43,10 +59,27 @@ public final class ValidMockery implements Mockery.Behaviour<Valid> {
           metadata.getType());
     }
 
-    String regex = valid.value();
-    String result = new Generex(regex).random();
+    if (legalValuesPool != null) {
+      return legalValuesPool.legal(metadata, generator);
+    }
+
+    return generate(metadata);
+  }
+
+  private Object generate(Metadata<Valid> metadata) {
+    String regex = metadata.getAnnotation().value();
+    String result = normalize(regex, regexCache.generator(regex)
+        .generate(metadata.getRandomSource().random()));
+
+    return safetyCast.with(result, metadata.getType());
+  }
 
-    result = result.replace("^", "")
+  /**
+   * Strip the anchors and the marks the generator leaves as literals, and keep the values of the numeric
+   * templates short enough to be cast to any of the supported types.
+   */
+  public static String normalize(String regex, String generated) {
+    String result = generated.replace("^", "")
         .replace("$", "")
         .replace("?", "");
 
@@ -63,7 +96,7 @@ public final class ValidMockery implements Mockery.Behaviour<Valid> {
       }
     }
 
-    return safetyCast.with(result, metadata.getType());
+    return result;
   }
 
   /**
@@ -75,10 +108,8 @@ public final class ValidMockery implements Mockery.Behaviour<Valid> {
 
     if (!defaultOptional.isEmpty()) {
       return safetyCast.with(defaultOptional, metadata.getType());
-    } else if (type.equals(String.class)) {
-      return safetyCast.with("", type);
     } else {
-      return safetyCast.with(0, type);
+      return safetyCast.empty(type);
     }
   }
 
@@ -90,7 +121,7 @@ public final class ValidMockery implements Mockery.Behaviour<Valid> {
     String regex = valid.value();
     String input = String.valueOf(candidate);
 
-    if (!input.matches(regex))
+    if (!regexCache.pattern(regex).matcher(input).matches())
       throw new AssertionError(errorMessage(input,regex));
   }
 
@@ -105,6 +136,7 @@ public final class ValidMockery implements Mockery.Behaviour<Valid> {
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.MockeryClock;
+import io.victoralbertos.mockery.api.RandomSource;
+import io.victoralbertos.mockery.api.Stateful;
+import io.victoralbertos.mockery.api.VirtualClock;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public final class BehaviourRegistryTest {
+
+  @Test public void When_Get_Same_Behaviour_Twice_Then_Get_Same_Instance() {
+    BehaviourRegistry registry = new BehaviourRegistry();
+
+    Stateless first = registry.from(Stateless.class);
+    Stateless second = registry.from(Stateless.class);
+
+    assertSame(first, second);
+  }
+
+  @Test public void When_Behaviour_Is_Stateful_Then_Get_New_Instance() {
+    BehaviourRegistry registry = new BehaviourRegistry();
+
+    StatefulBehaviour first = registry.from(StatefulBehaviour.class);
+    StatefulBehaviour second = registry.from(StatefulBehaviour.class);
+
+    assertNotSame(first, second);
+  }
+
+  @Test public void When_Behaviour_Is_Registered_Then_Get_Registered_Instance() {
+    BehaviourRegistry registry = new BehaviourRegistry();
+    Stateless registered = new Stateless();
+    registry.register(Stateless.class, registered);
+
+    assertSame(registered, registry.from(Stateless.class));
+  }
+
+  @Test public void When_Different_Registries_Then_Get_Different_Instances() {
+    Stateless first = new BehaviourRegistry().from(Stateless.class);
+    Stateless second = new BehaviourRegistry().from(Stateless.class);
+
+    assertNotSame(first, second);
+  }
+
+  @Test public void When_No_Random_Source_Is_Registered_Then_Get_Thread_Local_One() {
+    assertSame(ThreadLocalRandomSource.INSTANCE, new BehaviourRegistry().randomSource());
+  }
+
+  @Test public void When_Random_Source_Is_Registered_Then_Get_Registered_Instance() {
+    BehaviourRegistry registry = new BehaviourRegistry();
+    RandomSource registered = new SeededRandomSource(42);
+    registry.register(RandomSource.class, registered);
+
+    assertSame(registered, registry.randomSource());
+  }
+
+  @Test public void When_Metadata_Is_Bound_To_Registry_Then_Resolve_Its_Behaviours() {
+    BehaviourRegistry registry = new BehaviourRegistry();
+    VirtualClock clock = VirtualClock.manual();
+    registry.register(MockeryClock.class, clock);
+
+    Metadata<?> metadata = MetadataAccess.metadata(Stateless.class, null, null, null, null, registry);
+
+    assertSame(registry, MetadataAccess.registryOf(metadata));
+    assertSame(clock, metadata.getClock());
+  }
+
+  private static class Stateless {}
+
+  @Stateful
+  private static class StatefulBehaviour {}
+
+}
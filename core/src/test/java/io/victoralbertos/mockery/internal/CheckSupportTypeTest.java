@@ -16,9 +16,12 @@
 
 package io.victoralbertos.mockery.internal;
 
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
 import io.victoralbertos.mockery.api.built_in_mockery.Valid;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -33,7 +36,7 @@ public final class CheckSupportTypeTest {
 
   @Before public void init() {
     checkSupportTypeUT = new CheckSupportType();
-    getMockeryMetadata = new GetMockeryMetadata();
+    getMockeryMetadata = new GetMockeryMetadata(new BehaviourRegistry());
   }
 
   @Test public void When_Get_Mockery_Metadata_From_Param_But_Param_Type_Is_Not_Supported_Then_Get_Exception()
@@ -88,7 +91,37 @@ public final class CheckSupportTypeTest {
     checkSupportTypeUT.from(Providers.class, method, mockery, type);
   }
 
+  @Test public void When_Supported_Type_Has_Upper_Bounded_Wildcards_Then_Not_Get_Exception()
+      throws NoSuchMethodException {
+    Method method = Providers.class.getMethod("wildcardTypeMethod");
+    Type type = method.getGenericReturnType();
+    MockeryMetadata mockery =  getMockeryMetadata
+        .fromMethod(Providers.class, method, type, null);
+    checkSupportTypeUT.from(Providers.class, method, mockery, type);
+  }
+
+  @Test public void When_Supported_Type_Is_Deep_Parameterized_But_Does_Not_Match_Then_Get_Exception()
+      throws NoSuchMethodException {
+    Method method = Providers.class.getMethod("notMatchingParameterizedTypeMethod");
+    Type type = method.getGenericReturnType();
+    MockeryMetadata mockery =  getMockeryMetadata
+        .fromMethod(Providers.class, method, type, null);
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        checkSupportTypeUT.from(Providers.class, method, mockery, type);
+        fail();
+      } catch (RuntimeException ignore) {}
+    }
+  }
+
   private interface Providers {
+    @DTO(WildcardDTO.class)
+    Map<String, List<String>> wildcardTypeMethod();
+
+    @DTO(WildcardDTO.class)
+    Map<String, List<Integer>> notMatchingParameterizedTypeMethod();
+
     @Valid(STRING)
     Object notSupportedTypeMethod();
 
@@ -102,4 +135,13 @@ public final class CheckSupportTypeTest {
     String supportedTypeParam(@Valid(STRING) String s1);
   }
 
+  private static class WildcardDTO implements DTO.Behaviour<Map<String, ? extends List<? extends String>>> {
+    @Override public Map<String, ? extends List<? extends String>> legal() {
+      return null;
+    }
+
+    @Override public void validate(Map<String, ? extends List<? extends String>> candidate)
+        throws AssertionError {}
+  }
+
 }
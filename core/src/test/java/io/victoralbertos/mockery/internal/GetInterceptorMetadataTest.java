@@ -37,7 +37,7 @@ public final class GetInterceptorMetadataTest {
   private GetInterceptorMetadata getInterceptorMetadata;
 
   @Before public void init() {
-    getInterceptorMetadata = new GetInterceptorMetadata();
+    getInterceptorMetadata = new GetInterceptorMetadata(new BehaviourRegistry());
   }
 
   @Test public void When_No_Interceptor_Annotated_Then_Throw_Exception()
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import io.victoralbertos.mockery.api.built_in_mockery.DTOArgs;
+import java.lang.reflect.Proxy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GetMockeryImplementationTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Implementation_Is_Generated_Then_Build_It_Instead_Of_A_Proxy() {
+    Implemented implemented = new Mockery.Builder<Implemented>()
+        .mock(Implemented.class)
+        .build();
+
+    assertTrue(implemented instanceof GetMockeryImplementationTest_$Implemented_MockeryImpl);
+    assertThat(implemented.echo("s1"), is("s1"));
+    assertThat(implemented.echo("s2"), is("s2"));
+  }
+
+  @Test public void When_Interface_Is_Nested_Then_Its_Name_Does_Not_Collide_With_A_Top_Level_One() {
+    String nested = GetMockeryImplementation.generatedName(Implemented.class, GetMockeryImplementation.SUFFIX);
+    String topLevel = GetMockeryImplementation.generatedName(GetMockeryImplementationTest_Implemented.class,
+        GetMockeryImplementation.SUFFIX);
+
+    assertThat(nested, is(GetMockeryImplementationTest_$Implemented_MockeryImpl.class.getName()));
+    assertThat(topLevel, is("io.victoralbertos.mockery.internal.GetMockeryImplementationTest_Implemented_MockeryImpl"));
+  }
+
+  @Test public void When_Implementation_Is_Not_Generated_Then_Build_A_Proxy() {
+    NotImplemented notImplemented = new Mockery.Builder<NotImplemented>()
+        .mock(NotImplemented.class)
+        .build();
+
+    assertNull(new GetMockeryImplementation().from(NotImplemented.class, new BehaviourRegistry()));
+    assertTrue(Proxy.isProxyClass(notImplemented.getClass()));
+    assertThat(notImplemented.echo("s1"), is("s1"));
+  }
+
+  @Test public void When_Behaviour_Is_Supplied_To_A_Build_Then_Later_Builds_Do_Not_Get_It() {
+    Implemented supplied = new Mockery.Builder<Implemented>()
+        .mock(Implemented.class)
+        .behaviour(DTOEchoArg.class, new DTOEchoArg() {
+          @Override public String legal(Object[] args) { return "supplied"; }
+        })
+        .build();
+
+    Implemented implemented = new Mockery.Builder<Implemented>()
+        .mock(Implemented.class)
+        .build();
+
+    assertThat(supplied.echo("s1"), is("supplied"));
+    assertThat(implemented.echo("s1"), is("s1"));
+  }
+
+  @Test public void When_Method_Does_Not_Exist_Then_Get_Exception() {
+    exception.expect(RuntimeException.class);
+    MockeryMethod.of(new BehaviourRegistry(), Implemented.class, "echo", Integer.class);
+  }
+
+  @Test public void When_Implementation_Does_Not_Implement_The_Interface_Then_Ignore_It() {
+    assertFalse(Implemented.class.isAssignableFrom(GetMockeryImplementationTest_$Unrelated_MockeryImpl.class));
+    assertNull(new GetMockeryImplementation().from(Unrelated.class, new BehaviourRegistry()));
+  }
+
+  @Bypass
+  interface Implemented {
+    @DTOArgs(DTOEchoArg.class)
+    String echo(@DTO(DTOParamPass.class) String s1);
+  }
+
+  @Bypass
+  interface NotImplemented {
+    @DTOArgs(DTOEchoArg.class)
+    String echo(@DTO(DTOParamPass.class) String s1);
+  }
+
+  interface Unrelated {}
+
+  static class DTOEchoArg implements DTOArgs.Behaviour<String> {
+
+    @Override public void validate(String candidate) throws AssertionError {}
+
+    @Override public String legal(Object[] args) { return (String) args[0]; }
+
+  }
+
+  static class DTOParamPass implements DTO.Behaviour<String> {
+
+    @Override public void validate(String candidate) throws AssertionError {}
+
+    @Override public String legal() { return null; }
+
+  }
+
+}
+
+/**
+ * What the annotation processor generates for {@link GetMockeryImplementationTest.Implemented}.
+ */
+final class GetMockeryImplementationTest_$Implemented_MockeryImpl
+    implements GetMockeryImplementationTest.Implemented {
+  private final MockeryMethod echo;
+
+  public GetMockeryImplementationTest_$Implemented_MockeryImpl(BehaviourRegistry registry) {
+    this.echo = MockeryMethod.of(registry, GetMockeryImplementationTest.Implemented.class, "echo", String.class);
+  }
+
+  @Override public String echo(String s1) {
+    return (String) this.echo.invoke(new Object[] {s1});
+  }
+
+}
+
+final class GetMockeryImplementationTest_$Unrelated_MockeryImpl {}
+
+/**
+ * A top-level interface named as {@link GetMockeryImplementationTest.Implemented} with its enclosing class
+ * joined by an underscore.
+ */
+interface GetMockeryImplementationTest_Implemented {}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import io.victoralbertos.mockery.api.built_in_mockery.DTOArgs;
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;
+import io.victoralbertos.mockery.internal.built_in_mockery.DTOMockery;
+import io.victoralbertos.mockery.internal.built_in_mockery.DTOMockeryArgs;
+import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GetMockeryIndexTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Index_Is_Generated_Then_Load_It_Once() {
+    GetMockeryIndex getMockeryIndex = new GetMockeryIndex();
+    MockeryIndex index = getMockeryIndex.from(Indexed.class);
+
+    assertTrue(index instanceof GetMockeryIndexTest_$Indexed_MockeryIndex);
+    assertSame(index, getMockeryIndex.from(Indexed.class));
+  }
+
+  @Test public void When_Index_Is_Not_Generated_Then_Get_Null() {
+    assertNull(new GetMockeryIndex().from(NotIndexed.class));
+    assertNull(new GetMockeryIndex().from(NotIndexed.class));
+  }
+
+  @Test public void When_Indexed_Then_Resolve_The_Same_Metadata_As_By_Reflection() throws NoSuchMethodException {
+    Method method = Indexed.class.getMethod("echo", String.class, String.class);
+    Object[] args = {"s1", "s2"};
+    BehaviourRegistry registry = new BehaviourRegistry();
+
+    InterceptorMetadata interceptor = new GetInterceptorMetadata(registry).with(Indexed.class, method, args);
+    assertThat(interceptor.onLegalMock("mock"), is((Object) "mock"));
+
+    MockeryMetadata mockeryMethod = new GetMockeryMetadata(registry)
+        .fromMethod(Indexed.class, method, method.getGenericReturnType(), args);
+    assertThat(mockeryMethod.toString(), is(DTOMockeryArgs.class.getSimpleName()));
+    assertThat(mockeryMethod.legal(), is((Object) "s1"));
+
+    MockeryMetadata mockeryParam = new GetMockeryMetadata(registry).fromParam(Indexed.class, method, args, 0);
+    assertThat(mockeryParam.toString(), is(DTOMockery.class.getSimpleName()));
+  }
+
+  @Test public void When_Indexed_Param_Has_No_Mockery_Then_Get_Null() throws NoSuchMethodException {
+    Method method = Indexed.class.getMethod("echo", String.class, String.class);
+
+    assertNotNull(new GetMockeryIndex().from(Indexed.class).mockeryOfParam("echo", 1));
+    assertNull(new GetMockeryMetadata(new BehaviourRegistry())
+        .fromParam(Indexed.class, method, new Object[] {"s1", "s2"}, 1));
+  }
+
+  @Test public void When_Param_Type_Is_Checked_By_The_Processor_Then_Trust_It() throws NoSuchMethodException {
+    Method method = Checked.class.getMethod("echo", List.class);
+    assertNotNull(new GetInvocationPlan(new BehaviourRegistry()).from(Checked.class, method));
+
+    exception.expect(RuntimeException.class);
+    method = Unchecked.class.getMethod("echo", List.class);
+    new GetInvocationPlan(new BehaviourRegistry()).from(Unchecked.class, method);
+  }
+
+  @Bypass
+  interface Checked {
+    @DTOArgs(DTOEchoArg.class)
+    String echo(@Valid(STRING) List<String> s1);
+  }
+
+  @Bypass
+  interface Unchecked {
+    @DTOArgs(DTOEchoArg.class)
+    String echo(@Valid(STRING) List<String> s1);
+  }
+
+  @Bypass
+  interface Indexed {
+    @DTOArgs(DTOEchoArg.class)
+    String echo(@DTO(DTOParamPass.class) String s1, String s2);
+  }
+
+  @Bypass
+  interface NotIndexed {
+    @DTOArgs(DTOEchoArg.class)
+    String echo(@DTO(DTOParamPass.class) String s1);
+  }
+
+  static class DTOEchoArg implements DTOArgs.Behaviour<String> {
+
+    @Override public void validate(String candidate) throws AssertionError {}
+
+    @Override public String legal(Object[] args) { return (String) args[0]; }
+
+  }
+
+  static class DTOParamPass implements DTO.Behaviour<String> {
+
+    @Override public void validate(String candidate) throws AssertionError {}
+
+    @Override public String legal() { return null; }
+
+  }
+
+}
+
+/**
+ * What the annotation processor generates for {@link GetMockeryIndexTest.Indexed}.
+ */
+final class GetMockeryIndexTest_$Indexed_MockeryIndex extends MockeryIndex {
+
+  public GetMockeryIndexTest_$Indexed_MockeryIndex() {
+    super(interceptor(Bypass.class, BypassInterceptor.class));
+    method("echo", mockery(DTOArgs.class, DTOMockeryArgs.class), mockery(DTO.class, DTOMockery.class), NONE);
+  }
+
+}
+
+/**
+ * What the annotation processor would generate for {@link GetMockeryIndexTest.Checked}, trusting
+ * the type of its param even if it is not a supported one, to tell that the runtime does not check it again.
+ */
+final class GetMockeryIndexTest_$Checked_MockeryIndex extends MockeryIndex {
+
+  public GetMockeryIndexTest_$Checked_MockeryIndex() {
+    super(interceptor(Bypass.class, BypassInterceptor.class));
+    method("echo", mockery(DTOArgs.class, DTOMockeryArgs.class), checkedMockery(Valid.class, ValidMockery.class));
+  }
+
+}
+
+final class GetMockeryIndexTest_$Unchecked_MockeryIndex extends MockeryIndex {
+
+  public GetMockeryIndexTest_$Unchecked_MockeryIndex() {
+    super(interceptor(Bypass.class, BypassInterceptor.class));
+    method("echo", mockery(DTOArgs.class, DTOMockeryArgs.class), mockery(Valid.class, ValidMockery.class));
+  }
+
+}
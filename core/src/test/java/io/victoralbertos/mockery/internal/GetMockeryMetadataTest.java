@@ -36,7 +36,7 @@ public final class GetMockeryMetadataTest {
   private GetMockeryMetadata getMockeryMetadata;
 
   @Before public void init() {
-    getMockeryMetadata = new GetMockeryMetadata();
+    getMockeryMetadata = new GetMockeryMetadata(new BehaviourRegistry());
   }
 
   @Test public void When_Get_Mockery_Metadata_From_Method_Without_Mockery_Get_Exception()
@@ -16,17 +16,25 @@
 
 package io.victoralbertos.mockery.internal;
 
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.Stateful;
 import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;
 import io.victoralbertos.mockery.api.built_in_mockery.DTOArgs;
 import io.victoralbertos.mockery.api.built_in_mockery.DTO;
 import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -39,7 +47,7 @@ public final class MockeryProxyTest {
   private MockeryProxy mockeryProxy;
 
   @Before public void init() {
-    mockeryProxy = new MockeryProxy(Providers.class);
+    mockeryProxy = new MockeryProxy(Providers.class, new BehaviourRegistry());
   }
 
   @Test public void When_Method_Type_Is_Not_Supported_Then_Get_Exception()
@@ -106,8 +114,46 @@ public final class MockeryProxyTest {
     }
   }
 
+  @Test public void When_Method_Is_Called_Several_Times_Then_Args_Are_Not_Cached()
+      throws Throwable {
+    Method method = Providers.class.getMethod("echoArg", String.class);
+
+    String response = (String) mockeryProxy.invoke(null, method, new Object[] {"s1"});
+    assertThat(response, is("s1"));
+
+    response = (String) mockeryProxy.invoke(null, method, new Object[] {"s2"});
+    assertThat(response, is("s2"));
+  }
+
+  @Test public void When_Method_Type_Is_Not_Supported_Then_Get_Exception_On_Every_Call()
+      throws Throwable {
+    Method method = Providers.class.getMethod("notSupportedTypeMethod");
+    Object[] args = {};
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        mockeryProxy.invoke(null, method, args);
+        fail();
+      } catch (RuntimeException ignore) {}
+    }
+  }
+
+  @Test public void When_Mockery_Is_Stateful_Then_Every_Call_Gets_A_New_Instance()
+      throws Throwable {
+    Method method = Providers.class.getMethod("counted");
+
+    assertThat((Integer) mockeryProxy.invoke(null, method, null), is(1));
+    assertThat((Integer) mockeryProxy.invoke(null, method, null), is(1));
+  }
+
   @Bypass
   private interface Providers {
+    @Counted
+    Integer counted();
+
+    @DTOArgs(DTOEchoArg.class)
+    String echoArg(@DTO(DTOParamPass.class) String s1);
+
     @DTOArgs(DTOResponse.class)
     String noParams();
 
@@ -129,6 +175,27 @@ public final class MockeryProxyTest {
     String notSupportedTypeParam(@Valid(STRING) Object notSupportedType);
   }
 
+  @Retention(RUNTIME)
+  @Target(METHOD)
+  @Mockery(CountedMockery.class)
+  private @interface Counted {}
+
+  @Stateful
+  private static class CountedMockery implements Mockery.Behaviour<Counted> {
+    private int calls;
+
+    @Override public Object legal(Metadata<Counted> metadata) { return ++calls; }
+
+    @Override public Object illegal(Metadata<Counted> metadata) { return null; }
+
+    @Override public void validate(Metadata<Counted> metadata, Object candidate) throws AssertionError {}
+
+    @Override public Type[] supportedTypes(Metadata<Counted> metadata) { return new Type[] {Integer.class}; }
+
+    @Override public boolean isOptional() { return false; }
+
+  }
+
   private static class DTOResponse implements DTOArgs.Behaviour<String> {
 
     @Override public void validate(String candidate) throws AssertionError {}
@@ -137,6 +204,14 @@ public final class MockeryProxyTest {
 
   }
 
+  private static class DTOEchoArg implements DTOArgs.Behaviour<String> {
+
+    @Override public void validate(String candidate) throws AssertionError {}
+
+    @Override public String legal(Object[] args) { return (String) args[0]; }
+
+  }
+
   private static class DTOParamPass implements DTO.Behaviour<String> {
 
     @Override public void validate(String candidate) throws AssertionError {}
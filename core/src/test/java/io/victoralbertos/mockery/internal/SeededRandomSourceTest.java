@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+public final class SeededRandomSourceTest {
+
+  @Test public void When_Same_Seed_Then_Get_Same_Values() {
+    SeededRandomSource first = new SeededRandomSource(42);
+    SeededRandomSource second = new SeededRandomSource(42);
+
+    for (int i = 0; i < 30; i++) {
+      assertThat(first.random().nextLong(), is(second.random().nextLong()));
+    }
+  }
+
+  @Test public void When_Different_Seed_Then_Get_Different_Values() {
+    long first = new SeededRandomSource(42).random().nextLong();
+    long second = new SeededRandomSource(43).random().nextLong();
+
+    assertThat(first, is(not(second)));
+  }
+
+  @Test public void When_Called_Twice_From_Same_Thread_Then_Get_Same_Random() {
+    SeededRandomSource randomSource = new SeededRandomSource(42);
+
+    assertSame(randomSource.random(), randomSource.random());
+  }
+
+  @Test public void When_Called_From_Other_Thread_Then_Get_Independent_Random() throws Exception {
+    final SeededRandomSource randomSource = new SeededRandomSource(42);
+    final AtomicReference<Random> other = new AtomicReference<>();
+    Random current = randomSource.random();
+
+    Thread thread = new Thread(new Runnable() {
+      @Override public void run() {
+        other.set(randomSource.random());
+      }
+    });
+    thread.start();
+    thread.join();
+
+    assertNotSame(current, other.get());
+    assertThat(current.nextLong(), is(not(other.get().nextLong())));
+  }
+
+}
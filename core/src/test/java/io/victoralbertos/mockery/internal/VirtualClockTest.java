@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import io.victoralbertos.mockery.api.VirtualClock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VirtualClockTest {
+
+  @Test public void When_Manual_Then_Run_Only_Due_Tasks_In_Order() {
+    VirtualClock clock = VirtualClock.manual();
+    List<String> ran = new ArrayList<>();
+
+    clock.schedule(record(ran, "3000"), 3000);
+    clock.schedule(record(ran, "1000"), 1000);
+    clock.schedule(record(ran, "2000"), 2000);
+
+    clock.advanceBy(500, TimeUnit.MILLISECONDS);
+    assertThat(ran.isEmpty(), is(true));
+    assertThat(clock.millis(), is(500l));
+
+    clock.advanceBy(1500, TimeUnit.MILLISECONDS);
+    assertThat(ran, is(list("1000", "2000")));
+    assertThat(clock.millis(), is(2000l));
+
+    clock.advanceBy(5, TimeUnit.SECONDS);
+    assertThat(ran, is(list("1000", "2000", "3000")));
+    assertThat(clock.millis(), is(7000l));
+  }
+
+  @Test public void When_Cancel_Then_Do_Not_Run() {
+    VirtualClock clock = VirtualClock.manual();
+    List<String> ran = new ArrayList<>();
+
+    Future<?> task = clock.schedule(record(ran, "cancelled"), 1000);
+    assertThat(task.cancel(false), is(true));
+
+    clock.advanceBy(1, TimeUnit.SECONDS);
+    assertThat(ran.isEmpty(), is(true));
+  }
+
+  @Test public void When_Auto_Advancing_Then_Run_Instantly() throws InterruptedException {
+    VirtualClock clock = VirtualClock.autoAdvancing();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    long start = System.nanoTime();
+    clock.schedule(new Runnable() {
+      @Override public void run() {
+        latch.countDown();
+      }
+    }, TimeUnit.HOURS.toMillis(1));
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+    assertThat(clock.millis(), is(TimeUnit.HOURS.toMillis(1)));
+  }
+
+  private static Runnable record(final List<String> ran, final String name) {
+    return new Runnable() {
+      @Override public void run() {
+        ran.add(name);
+      }
+    };
+  }
+
+  private static List<String> list(String... names) {
+    List<String> list = new ArrayList<>();
+    Collections.addAll(list, names);
+    return list;
+  }
+
+}
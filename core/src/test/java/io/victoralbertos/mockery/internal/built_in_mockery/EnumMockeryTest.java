@@ -20,6 +20,7 @@ import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.SupportedTypes;
 import io.victoralbertos.mockery.api.built_in_mockery.Enum;
 import io.victoralbertos.mockery.internal.Messages;
+import io.victoralbertos.mockery.internal.SeededRandomSource;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -62,7 +63,7 @@ public final class EnumMockeryTest {
     }
 
     try {
-      enumMockery.illegal(metadata);
+      enumMockery.supportedTypes(metadata);
       fail();
     } catch (RuntimeException e) {
       assertThat(e.getMessage(), is(errorMessage));
@@ -121,6 +122,22 @@ public final class EnumMockeryTest {
     }
   }
 
+  @Test public void When_Call_Legal_With_Same_Seed_Then_Get_Same_Values() throws NoSuchMethodException {
+    Method method = Providers.class
+        .getDeclaredMethod("object", String.class);
+    Enum annotation = (Enum) method.getParameterAnnotations()[0][0];
+    Type type = method.getGenericParameterTypes()[0];
+
+    Metadata<Enum> metadata1 = new Metadata<>(Providers.class,
+        method, null, annotation, type, new SeededRandomSource(42));
+    Metadata<Enum> metadata2 = new Metadata<>(Providers.class,
+        method, null, annotation, type, new SeededRandomSource(42));
+
+    for (int i = 0; i < 30; i++) {
+      assertThat(enumMockery.legal(metadata1), is(enumMockery.legal(metadata2)));
+    }
+  }
+
   @Test public void When_Call_Legal_Primitive_Then_Get_Legal() throws NoSuchMethodException {
     Method method = Providers.class
         .getDeclaredMethod("primitive", int.class);
@@ -197,8 +214,17 @@ public final class EnumMockeryTest {
     }
   }
 
-  @Test public void When_Support_Type_Retrieved_Then_Is_Numeric_And_Text() {
-    Type[] supportedTypes = enumMockery.supportedTypes(null);
+  @Test public void When_Support_Type_Retrieved_Then_Is_Numeric_And_Text()
+      throws NoSuchMethodException {
+    Method method = Providers.class
+        .getDeclaredMethod("object", String.class);
+    Enum annotation = (Enum) method.getParameterAnnotations()[0][0];
+    Type type = method.getGenericParameterTypes()[0];
+
+    Metadata<Enum> metadata = new Metadata<>(Providers.class,
+        method, null, annotation, type);
+
+    Type[] supportedTypes = enumMockery.supportedTypes(metadata);
     assertThat(supportedTypes.length, is(10));
 
     Type[] expectedTypes = SupportedTypes.concat(SupportedTypes.NUMERIC, SupportedTypes.TEXT);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_mockery;
+
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.built_in_mockery.Enum;
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.EMAIL;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LegalValuesPoolTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Size_Is_Not_Power_Of_Two_Then_Round_Up() {
+    assertThat(new LegalValuesPool(1).capacity(), is(1));
+    assertThat(new LegalValuesPool(100).capacity(), is(128));
+    assertThat(new LegalValuesPool(128).capacity(), is(128));
+  }
+
+  @Test public void When_Size_Is_Not_Positive_Then_Throw_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new LegalValuesPool(0);
+  }
+
+  @Test public void When_Pool_Is_Filled_Then_Hand_Out_Pooled_Values() throws Exception {
+    Metadata<Valid> metadata = metadata("email", Valid.class);
+    final CountDownLatch filled = new CountDownLatch(4);
+
+    LegalValuesPool pool = new LegalValuesPool(4);
+    LegalValuesPool.Generator<Valid> generator = new LegalValuesPool.Generator<Valid>() {
+      @Override public Object legal(Metadata<Valid> metadata) {
+        if (!Thread.currentThread().getName().equals("Mockery-pool")) return "calling thread";
+        filled.countDown();
+        return "pool";
+      }
+    };
+
+    pool.legal(metadata, generator);
+    assertTrue(filled.await(5, TimeUnit.SECONDS));
+    Thread.sleep(100);
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(pool.legal(metadata, generator), is((Object) "pool"));
+    }
+  }
+
+  @Test public void When_Valid_Mockery_Uses_Pool_Then_Get_Legal() {
+    Metadata<Valid> metadata = metadata("email", Valid.class);
+    ValidMockery validMockery = new ValidMockery(new LegalValuesPool(8));
+
+    for (int i = 0; i < 50; i++) {
+      validMockery.validate(metadata, validMockery.legal(metadata));
+    }
+  }
+
+  @Test public void When_Enum_Mockery_Uses_Pool_Then_Get_Legal() {
+    Metadata<Enum> metadata = metadata("order", Enum.class);
+    EnumMockery enumMockery = new EnumMockery(new LegalValuesPool(8));
+
+    for (int i = 0; i < 50; i++) {
+      enumMockery.validate(metadata, enumMockery.legal(metadata));
+    }
+  }
+
+  private static <A extends Annotation> Metadata<A> metadata(String name,
+      Class<A> annotationClass) {
+    for (Method method : Providers.class.getDeclaredMethods()) {
+      if (method.getName().equals(name)) {
+        A annotation = (A) method.getParameterAnnotations()[0][0];
+        return new Metadata<>(Providers.class, method, null, annotation, String.class);
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  private interface Providers {
+    void email(@Valid(EMAIL) String email);
+
+    void order(@Enum({"asc", "desc"}) String order);
+  }
+
+}
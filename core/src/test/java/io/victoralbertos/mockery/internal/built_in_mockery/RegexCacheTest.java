@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_mockery;
+
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class RegexCacheTest {
+  private RegexCache regexCache;
+
+  @Before public void init() {
+    regexCache = new RegexCache();
+  }
+
+  @Test public void When_Get_Pattern_Twice_Then_Get_Same_Instance() {
+    assertSame(regexCache.pattern(Valid.Template.EMAIL),
+        new RegexCache().pattern(Valid.Template.EMAIL));
+  }
+
+  @Test public void When_Get_Generator_Twice_Then_Get_Same_Instance() {
+    assertSame(regexCache.generator(Valid.Template.EMAIL),
+        new RegexCache().generator(Valid.Template.EMAIL));
+  }
+
+  @Test public void When_Get_Different_Regex_Then_Get_Different_Instance() {
+    assertNotSame(regexCache.pattern(Valid.Template.EMAIL),
+        regexCache.pattern(Valid.Template.PHONE));
+  }
+
+  @Test public void When_Generate_With_Cached_Generator_Then_Match_Cached_Pattern() {
+    for (int i = 0; i < 10; i++) {
+      String value = regexCache.generator(Valid.Template.EMAIL).generate(new Random());
+      assertTrue(regexCache.pattern(Valid.Template.EMAIL).matcher(value).matches());
+    }
+  }
+
+  @Test public void When_Generate_With_Same_Seed_Then_Get_Same_Values() {
+    RegexGenerator generator = regexCache.generator(Valid.Template.EMAIL);
+    Random random1 = new Random(42);
+    Random random2 = new Random(42);
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(generator.generate(random1), generator.generate(random2));
+    }
+  }
+
+}
@@ -16,13 +16,18 @@
 
 package io.victoralbertos.mockery.internal.built_in_mockery;
 
+import java.math.BigDecimal;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 public final class SafetyCastTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
   private SafetyCast safetyCast;
 
   @Before public void init() {
@@ -83,4 +88,66 @@ public final class SafetyCastTest {
     assertThat(result, is("345"));
   }
 
+  @Test public void When_Number_Then_Convert_Without_Parsing() {
+    assertThat((Long) safetyCast.with(7, Long.class), is(7l));
+    assertThat((Integer) safetyCast.with(7l, int.class), is(7));
+    assertThat((Double) safetyCast.with(1.5f, double.class), is(1.5d));
+    assertThat((String) safetyCast.with(7, String.class), is("7"));
+  }
+
+  @Test public void When_Number_Already_Of_Type_Then_Get_Same_Instance() {
+    Double number = 3.5d;
+    assertSame(number, safetyCast.with(number, Double.class));
+  }
+
+  @Test public void When_Number_Fits_Without_Loss_Then_Convert() {
+    assertThat((Integer) safetyCast.with(4d, int.class), is(4));
+    assertThat((Integer) safetyCast.with((long) Integer.MIN_VALUE, Integer.class), is(Integer.MIN_VALUE));
+    assertThat((Long) safetyCast.with(-4f, long.class), is(-4l));
+    assertThat((Float) safetyCast.with(0.5d, float.class), is(0.5f));
+    assertThat((Float) safetyCast.with(Double.POSITIVE_INFINITY, Float.class), is(Float.POSITIVE_INFINITY));
+  }
+
+  @Test public void When_Number_Is_Not_Integral_Then_Throw_Exception() {
+    exception.expect(NumberFormatException.class);
+    safetyCast.with(3.5d, int.class);
+  }
+
+  @Test public void When_Number_Is_NaN_Then_Throw_Exception() {
+    exception.expect(NumberFormatException.class);
+    safetyCast.with(Float.NaN, Long.class);
+  }
+
+  @Test public void When_Number_Is_Out_Of_Int_Range_Then_Throw_Exception() {
+    exception.expect(NumberFormatException.class);
+    safetyCast.with(Integer.MAX_VALUE + 1l, Integer.class);
+  }
+
+  @Test public void When_Number_Is_Out_Of_Long_Range_Then_Throw_Exception() {
+    exception.expect(NumberFormatException.class);
+    safetyCast.with(0x1p63, long.class);
+  }
+
+  @Test public void When_Number_Is_Out_Of_Float_Range_Then_Throw_Exception() {
+    exception.expect(NumberFormatException.class);
+    safetyCast.with(1e40d, float.class);
+  }
+
+  @Test public void When_Big_Number_Does_Not_Fit_Then_Throw_Exception() {
+    exception.expect(NumberFormatException.class);
+    safetyCast.with(new BigDecimal("2.5"), int.class);
+  }
+
+  @Test public void When_Empty_Then_Get_Same_Instance() {
+    assertThat((String) safetyCast.empty(String.class), is(""));
+    assertThat((Float) safetyCast.empty(float.class), is(0f));
+    assertSame(safetyCast.empty(Double.class), safetyCast.empty(double.class));
+    assertSame(safetyCast.empty(Double.class), safetyCast.with("0", Double.class));
+  }
+
+  @Test public void When_Type_Not_Supported_Then_Throw_Exception() {
+    exception.expect(RuntimeException.class);
+    safetyCast.empty(Object.class);
+  }
+
 }
@@ -125,4 +125,15 @@ public final class RestApiTest {
     restApi.modelWithEnum(order);
   }
 
+  @Test public void seedWithPooledLegalValuesFails() {
+    exception.expect(RuntimeException.class);
+    exception.expectMessage("both a seed and pooled legal values were set");
+
+    new Mockery.Builder<RestApi>()
+        .mock(RestApi.class)
+        .seed(42)
+        .poolLegalValues(8)
+        .build();
+  }
+
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+/**
+ * The state of the simulated server of a mocked interface or method whose concurrency is limited with
+ * {@link Retrofit#maxConcurrentCalls()}. The values are read without locking, so they are a snapshot.
+ */
+public interface ConcurrencyMetrics {
+  /**
+   * The calls being processed by the server at this moment.
+   */
+  int activeCalls();
+
+  /**
+   * The calls waiting for a free slot at this moment.
+   */
+  int queuedCalls();
+
+  /**
+   * The highest number of calls which have been waiting at the same time.
+   */
+  int peakQueuedCalls();
+
+  /**
+   * The calls rejected with a 503 response because the queue was full.
+   */
+  long rejectedCalls();
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Expose the {@link ConcurrencyMetrics} of the simulated servers of a built instance whose concurrency is limited.
+ * Supply a new monitor to the builder with {@code .behaviour(ConcurrencyMonitor.class, monitor)},
+ * then query it while the calls are being made.
+ */
+public final class ConcurrencyMonitor {
+  private final ConcurrentMap<AnnotatedElement, ConcurrencyMetrics> servers;
+
+  public ConcurrencyMonitor() {
+    this.servers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Return the metrics of the limited interface, or of the method if it sets its own limit with
+   * {@link NetworkBehaviour}. It is null until the first call to it has been made.
+   */
+  public ConcurrencyMetrics metrics(AnnotatedElement scope) {
+    return servers.get(scope);
+  }
+
+  /**
+   * Called by the built-in interceptors when they start simulating the server of {@code scope}.
+   */
+  public void onServerStarted(AnnotatedElement scope, ConcurrencyMetrics metrics) {
+    servers.putIfAbsent(scope, metrics);
+  }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Supply the {@link ExecutorService} in which the mocked calls are executed asynchronously, simulating the network delay.
+ * To use it, pass the implementation to {@link Retrofit#executorProvider}.
+ * The instance is created once per mocked interface, so a custom executor can also be supplied registering
+ * an instance of the implementation through {@code Mockery.Builder#behaviour}.
+ */
+public interface ExecutorProvider {
+  /**
+   * Return the executor for the calls of the mocked interface.
+   * It is queried on every call, so it should return always the same instance instead of creating a new one.
+   */
+  ExecutorService executor();
+}
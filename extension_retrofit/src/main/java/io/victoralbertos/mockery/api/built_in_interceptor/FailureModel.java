@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+import java.util.Random;
+
+/**
+ * Decide which mocked calls fail with a network error.
+ * To use it, pass the implementation to {@link Retrofit#failureModel}.
+ * The instance is created once per mocked interface and shared by all its calls, so a model may keep state
+ * between them (e.g. whether the server is going through an outage), and a configured instance can also be
+ * supplied through {@code Mockery.Builder#behaviour}. Calls may arrive from several threads at once.
+ */
+public interface FailureModel {
+  /**
+   * Return true if the next call has to fail.
+   * @param failurePercent the failure percent set on the annotation. Each model decides how to use it.
+   * @param random the random source of the mocked interface, so seeded runs replay the same failures.
+   */
+  boolean isFailure(int failurePercent, Random random);
+}
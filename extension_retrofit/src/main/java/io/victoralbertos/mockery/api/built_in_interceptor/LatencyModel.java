@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+import java.util.Random;
+
+/**
+ * Decide the network round trip delay of every mocked call.
+ * To use it, pass the implementation to {@link Retrofit#latencyModel}.
+ * The instance is created once per mocked interface, so any costly setup (e.g. loading a recorded histogram)
+ * is done only once, and a configured instance can also be supplied through {@code Mockery.Builder#behaviour}.
+ */
+public interface LatencyModel {
+  /**
+   * Return the delay in milliseconds of the next call.
+   * @param delay the delay set on the annotation, in milliseconds. Each model decides how to scale by it.
+   * @param variancePercentage the variance percentage set on the annotation.
+   * @param random the random source of the mocked interface, so seeded runs replay the same delays.
+   */
+  long delayMillis(long delay, int variancePercentage, Random random);
+}
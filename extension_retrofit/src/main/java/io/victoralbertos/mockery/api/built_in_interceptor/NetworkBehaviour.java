@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Override for a single method the network behaviour set by the {@link Retrofit}, {@code RxRetrofit} or
+ * {@code Rx2Retrofit} annotation of its interface, e.g. to make a search endpoint slow while the rest stay fast.
+ * Every attribute left unset keeps the value of the interface annotation.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface NetworkBehaviour {
+  int INHERIT = -1;
+
+  /**
+   * Set the network round trip delay in milliseconds for this method.
+   * The amount must be a positive value.
+   */
+  long delay() default INHERIT;
+
+  /**
+   * Set the percentage of calls to this method to fail.
+   * Failure percentage must be between 0 and 100.
+   */
+  int failurePercent() default INHERIT;
+
+  /**
+   * Set the plus-or-minus variancePercentage percentage of the network round trip delay for this method.
+   * Variance percentage must be between 0 and 100.
+   */
+  int variancePercentage() default INHERIT;
+
+  /**
+   * Set the bandwidth of the network in bytes per second for this method.
+   * The amount must be a positive value, or 0 to not throttle its responses.
+   */
+  long bytesPerSecond() default INHERIT;
+
+  /**
+   * Set the maximum number of calls to this method processed at the same time by the server.
+   * Setting this or {@link #maxQueuedCalls()} gives the method its own slots, instead of sharing the ones
+   * of its interface. The amount must be a positive value, or 0 to not limit its calls.
+   */
+  int maxConcurrentCalls() default INHERIT;
+
+  /**
+   * Set the maximum number of calls to this method waiting for a free slot.
+   * The amount must be a positive value.
+   */
+  int maxQueuedCalls() default INHERIT;
+
+  /**
+   * Set the calls per second to this method accepted by the server.
+   * Setting this or {@link #rateLimitBurst()} gives the method its own bucket, instead of sharing the one
+   * of its interface. The amount must be a positive value up to 1000000000, or 0 to not limit its rate.
+   */
+  int rateLimit() default INHERIT;
+
+  /**
+   * Set the calls to this method accepted at once by the server.
+   * The amount must be a positive value.
+   */
+  int rateLimitBurst() default INHERIT;
+
+  /**
+   * Set the status codes of the error responses of this method, the ones returned when the mock is illegal.
+   * Each code must be between 400 and 599. By default, none, 404 is returned.
+   */
+  int[] errorCodes() default {};
+
+  /**
+   * Set the weight of each one of {@link #errorCodes()}, so they are returned with different probabilities,
+   * e.g. {@code errorCodes = {500, 503}, errorCodeWeights = {9, 1}}. Each weight must be a positive value.
+   * By default, none, all the codes are returned equally often.
+   */
+  int[] errorCodeWeights() default {};
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.api.built_in_interceptor;
+
+/**
+ * The order in which the calls waiting for a free slot of the server are processed.
+ * @see Retrofit#queueOrder()
+ */
+public enum QueueOrder {
+  /**
+   * The call which has been waiting the longest goes first.
+   */
+  FIFO,
+
+  /**
+   * The latest call goes first, as servers which favour fresh requests over the ones their clients
+   * may have already given up on.
+   */
+  LIFO
+}
@@ -18,7 +18,15 @@ package io.victoralbertos.mockery.api.built_in_interceptor;
 
 import io.victoralbertos.mockery.api.Interceptor;
 import io.victoralbertos.mockery.internal.built_in_interceptor.ByPassErrorResponseAdapter;
+import io.victoralbertos.mockery.internal.built_in_interceptor.GilbertElliottFailures;
+import io.victoralbertos.mockery.internal.built_in_interceptor.HdrHistogramLatency;
+import io.victoralbertos.mockery.internal.built_in_interceptor.IndependentFailures;
+import io.victoralbertos.mockery.internal.built_in_interceptor.LogNormalLatency;
+import io.victoralbertos.mockery.internal.built_in_interceptor.ParetoLatency;
+import io.victoralbertos.mockery.internal.built_in_interceptor.PercentileLatency;
 import io.victoralbertos.mockery.internal.built_in_interceptor.RetrofitInterceptor;
+import io.victoralbertos.mockery.internal.built_in_interceptor.SharedExecutorProvider;
+import io.victoralbertos.mockery.internal.built_in_interceptor.UniformLatency;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import retrofit2.Call;
@@ -59,9 +67,77 @@ public @interface Retrofit {
    */
   int variancePercentage() default 40;
 
+  /**
+   * Set the bandwidth of the network in bytes per second, so the delay grows with the size of the responses.
+   * Success responses are delayed by the time it takes to transfer their json, which requires a {@code JsonConverter}
+   * on the interface. The json is measured once per class of response, and the later responses of that class
+   * are taken to be as large. The error bodies are streamed at this rate.
+   * The amount must be a positive value. By default, 0, responses are not throttled.
+   */
+  long bytesPerSecond() default 0;
+
+  /**
+   * Set the maximum number of calls to the interface processed at the same time by the server, so the rest wait
+   * in a queue before their delay starts, as they do on a backend which caps its concurrency.
+   * The amount must be a positive value. By default, 0, calls are not limited.
+   * @see ConcurrencyMetrics
+   */
+  int maxConcurrentCalls() default 0;
+
+  /**
+   * Set the maximum number of calls waiting for a free slot once {@link #maxConcurrentCalls()} is reached.
+   * When the queue is full, calls are rejected with a 503 response. By default, the queue is unbounded.
+   */
+  int maxQueuedCalls() default Integer.MAX_VALUE;
+
+  /**
+   * Set the order in which the queued calls are processed. By default, {@link QueueOrder#FIFO}.
+   */
+  QueueOrder queueOrder() default QueueOrder.FIFO;
+
+  /**
+   * Set the calls per second to the interface accepted by the server, as a token bucket refilled at this rate.
+   * Once the bucket is empty, calls are rejected with a 429 response whose Retry-After header tells
+   * the seconds until a token is available again.
+   * The amount must be a positive value up to 1000000000. By default, 0, the rate is not limited.
+   */
+  int rateLimit() default 0;
+
+  /**
+   * Set the capacity of the bucket, that is, the calls accepted at once after a quiet period.
+   * By default, 0, it is the same as {@link #rateLimit()}.
+   */
+  int rateLimitBurst() default 0;
+
   /**
    * Adapts the error message. By default {@link ByPassErrorResponseAdapter} is used.
    * @see ErrorResponseAdapter
    */
   Class<? extends ErrorResponseAdapter> errorResponseAdapter() default ByPassErrorResponseAdapter.class;
+
+  /**
+   * Supplies the executor for the calls. By default {@link SharedExecutorProvider} is used.
+   * @see ExecutorProvider
+   */
+  Class<? extends ExecutorProvider> executorProvider() default SharedExecutorProvider.class;
+
+  /**
+   * Decides the network round trip delay of every call. By default {@link UniformLatency} is used, which varies
+   * the delay by the variance percentage. {@link LogNormalLatency}, {@link ParetoLatency}, {@link PercentileLatency}
+   * and {@link HdrHistogramLatency} supply long tailed delays closer to the ones of real services. Their parameters
+   * are set supplying the instance built with their {@code of} factory to the builder of the mocked interface,
+   * e.g. {@code .behaviour(LogNormalLatency.class, LogNormalLatency.of(0.8))}.
+   * @see LatencyModel
+   */
+  Class<? extends LatencyModel> latencyModel() default UniformLatency.class;
+
+  /**
+   * Decides which calls fail. By default {@link IndependentFailures} is used, which fails every call with
+   * the probability of the failure percent. {@link GilbertElliottFailures} fails the calls in bursts instead,
+   * as outages do. Its burst and recovery lengths are set supplying the instance built with
+   * {@link GilbertElliottFailures#of(double, double)} to the builder of the mocked interface,
+   * e.g. {@code .behaviour(GilbertElliottFailures.class, GilbertElliottFailures.of(20, 500))}.
+   * @see FailureModel
+   */
+  Class<? extends FailureModel> failureModel() default IndependentFailures.class;
 }
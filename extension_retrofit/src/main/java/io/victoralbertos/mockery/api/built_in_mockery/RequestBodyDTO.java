@@ -36,4 +36,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  */
 public @interface RequestBodyDTO {
   Class<? extends DTO.Behaviour> value();
+
+  /**
+   * Upload the {@link RequestBody} at this number of bytes per second, as a slow link would do. The time it takes
+   * is added to the delay of the call when its interface is annotated with {@code Retrofit}, {@code RxRetrofit}
+   * or {@code Rx2Retrofit}. By default, 0, the upload takes no time.
+   */
+  long bytesPerSecond() default 0;
 }
\ No newline at end of file
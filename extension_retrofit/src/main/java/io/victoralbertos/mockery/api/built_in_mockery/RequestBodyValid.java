@@ -47,4 +47,11 @@ public @interface RequestBodyValid {
    * Same as {@link Valid#illegal()}
    */
   String illegal() default "";
+
+  /**
+   * Upload the {@link RequestBody} at this number of bytes per second, as a slow link would do. The time it takes
+   * is added to the delay of the call when its interface is annotated with {@code Retrofit}, {@code RxRetrofit}
+   * or {@code Rx2Retrofit}. By default, 0, the upload takes no time.
+   */
+  long bytesPerSecond() default 0;
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import java.io.IOException;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+
+/**
+ * Simulate the transfer time of the bodies of the requests and the responses over a link limited to a number
+ * of bytes per second.
+ */
+final class Bandwidth {
+  private final long bytesPerSecond;
+  private final MockeryClock clock;
+
+  Bandwidth(long bytesPerSecond, MockeryClock clock) {
+    this.bytesPerSecond = bytesPerSecond;
+    this.clock = clock;
+  }
+
+  /**
+   * Return the milliseconds it takes to transfer {@code bytes}, so the delay of the call
+   * grows with the size of the payload.
+   */
+  long transferMillis(long bytes) {
+    return bytes * 1000 / bytesPerSecond;
+  }
+
+  /**
+   * Return the milliseconds it takes to upload the request body. When its length is unknown, the body
+   * is written to a buffer to count its bytes.
+   */
+  long transferMillis(RequestBody body) {
+    try {
+      long bytes = body.contentLength();
+      if (bytes == -1) {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        bytes = buffer.size();
+      }
+      return transferMillis(bytes);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Return a body which streams the bytes of the original one through a {@link ThrottledSource}.
+   */
+  ResponseBody throttle(ResponseBody body) {
+    return ResponseBody.create(body.contentType(), body.contentLength(),
+        Okio.buffer(new ThrottledSource(body.source(), bytesPerSecond, clock)));
+  }
+
+}
@@ -16,38 +16,46 @@
 
 package io.victoralbertos.mockery.internal.built_in_interceptor;
 
-import java.lang.reflect.Constructor;
+import io.victoralbertos.mockery.api.MockeryClock;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import retrofit2.Call;
-import retrofit2.mock.NetworkBehavior;
 
 final class CallAdapter {
   private final retrofit2.Retrofit retrofit;
+  private final ConcurrentMap<Method, retrofit2.CallAdapter> callAdapters;
 
   public CallAdapter(retrofit2.Retrofit retrofit) {
     this.retrofit = retrofit;
+    this.callAdapters = new ConcurrentHashMap<>();
   }
 
-  <T> T adapt(Method method, NetworkBehavior networkBehavior, Call<?> call) {
-    try {
-      Class<?> behaviorCallClass = Class.forName("retrofit2.mock.BehaviorCall");
+  <T> T adapt(Method method, SimulatedNetwork network, ExecutorService executor,
+      MockeryClock clock, Call<?> call) {
+    Call<?> delayedCall = new DelayedCall<>(network, executor, clock, call);
+    return (T) callAdapter(method).adapt(delayedCall);
+  }
 
-      Constructor<?> constructor = behaviorCallClass.getDeclaredConstructor(NetworkBehavior.class,
-          ExecutorService.class, Call.class);
-      constructor.setAccessible(true);
+  /**
+   * Adapt an already completed call as it is, so the response is delivered synchronously on the
+   * calling thread. Meant for when there is neither delay nor failures to simulate.
+   */
+  <T> T adapt(Method method, Call<?> call) {
+    return (T) callAdapter(method).adapt(call);
+  }
 
-      Call<?> behaviorCall = (Call<?>) constructor.newInstance(networkBehavior,
-          Executors.newCachedThreadPool(),
-          call);
+  /**
+   * Look up the Retrofit call adapter for the return type of the method only the first time it is called.
+   */
+  private retrofit2.CallAdapter callAdapter(Method method) {
+    retrofit2.CallAdapter callAdapter = callAdapters.get(method);
+    if (callAdapter != null) return callAdapter;
 
-      return (T) retrofit
-          .callAdapter(method.getGenericReturnType(), method.getAnnotations())
-          .adapt(behaviorCall);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    callAdapter = retrofit.callAdapter(method.getGenericReturnType(), method.getAnnotations());
+    retrofit2.CallAdapter previous = callAdapters.putIfAbsent(method, callAdapter);
+    return previous != null ? previous : callAdapter;
   }
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.ConcurrencyMetrics;
+import io.victoralbertos.mockery.api.built_in_interceptor.QueueOrder;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulate a server which processes at most a number of calls at the same time. It works as a non-blocking
+ * semaphore: the permits are counted with an atomic integer and the calls without one wait in a lock-free deque,
+ * to be run by whichever thread releases the next permit. No thread is ever blocked waiting.
+ */
+final class ConcurrencyLimiter implements ConcurrencyMetrics {
+  private final int maxConcurrentCalls;
+  private final int maxQueuedCalls;
+  private final QueueOrder queueOrder;
+  private final AtomicInteger permits;
+  private final AtomicInteger queuedCalls;
+  private final AtomicInteger peakQueuedCalls;
+  private final AtomicLong rejectedCalls;
+  private final ConcurrentLinkedDeque<Runnable> queue;
+
+  ConcurrencyLimiter(int maxConcurrentCalls, int maxQueuedCalls, QueueOrder queueOrder) {
+    if (maxConcurrentCalls <= 0) throw new IllegalArgumentException("Max concurrent calls must be a positive value");
+    if (maxQueuedCalls < 0) throw new IllegalArgumentException("Max queued calls must be a positive value");
+
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxQueuedCalls = maxQueuedCalls;
+    this.queueOrder = queueOrder;
+    this.permits = new AtomicInteger(maxConcurrentCalls);
+    this.queuedCalls = new AtomicInteger();
+    this.peakQueuedCalls = new AtomicInteger();
+    this.rejectedCalls = new AtomicLong();
+    this.queue = new ConcurrentLinkedDeque<>();
+  }
+
+  /**
+   * Run the call right away if there is a free permit, otherwise queue it until one is released.
+   * The call must eventually {@link #release()} its permit.
+   * @return false if the queue was full, in which case the call is rejected and never run.
+   */
+  boolean submit(Runnable call) {
+    if (tryAcquire()) {
+      call.run();
+      return true;
+    }
+
+    int depth = queuedCalls.incrementAndGet();
+    if (depth > maxQueuedCalls) {
+      queuedCalls.decrementAndGet();
+      rejectedCalls.incrementAndGet();
+      return false;
+    }
+
+    updatePeak(depth);
+    queue.offerLast(call);
+    drain();
+    return true;
+  }
+
+  void release() {
+    permits.incrementAndGet();
+    drain();
+  }
+
+  @Override public int activeCalls() {
+    return maxConcurrentCalls - permits.get();
+  }
+
+  @Override public int queuedCalls() {
+    return queuedCalls.get();
+  }
+
+  @Override public int peakQueuedCalls() {
+    return peakQueuedCalls.get();
+  }
+
+  @Override public long rejectedCalls() {
+    return rejectedCalls.get();
+  }
+
+  /**
+   * Hand the free permits to the queued calls. Both submitting and releasing drain after publishing their change,
+   * so a call queued while a permit is being released is never left waiting.
+   */
+  private void drain() {
+    while (!queue.isEmpty() && tryAcquire()) {
+      Runnable next = queueOrder == QueueOrder.FIFO ? queue.pollFirst() : queue.pollLast();
+      if (next == null) {
+        permits.incrementAndGet();
+        continue;
+      }
+
+      queuedCalls.decrementAndGet();
+      next.run();
+    }
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      int available = permits.get();
+      if (available == 0) return false;
+      if (permits.compareAndSet(available, available - 1)) return true;
+    }
+  }
+
+  private void updatePeak(int depth) {
+    while (true) {
+      int peak = peakQueuedCalls.get();
+      if (depth <= peak || peakQueuedCalls.compareAndSet(peak, depth)) return;
+    }
+  }
+
+}
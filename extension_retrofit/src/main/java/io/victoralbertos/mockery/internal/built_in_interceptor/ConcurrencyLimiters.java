@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.ConcurrencyMonitor;
+import io.victoralbertos.mockery.api.built_in_interceptor.QueueOrder;
+import java.lang.reflect.AnnotatedElement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hold the {@link ConcurrencyLimiter} of every interface or method whose concurrency is limited,
+ * so all the calls to it share the same slots. There is one per built instance, resolved from its registry,
+ * so instances built separately do not share their slots.
+ */
+final class ConcurrencyLimiters {
+  private final ConcurrentMap<AnnotatedElement, ConcurrencyLimiter> limiters;
+
+  ConcurrencyLimiters() {
+    this.limiters = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @param monitor notified of every limiter the first time it is created.
+   */
+  ConcurrencyLimiter from(AnnotatedElement scope, int maxConcurrentCalls, int maxQueuedCalls,
+      QueueOrder queueOrder, ConcurrencyMonitor monitor) {
+    ConcurrencyLimiter limiter = limiters.get(scope);
+    if (limiter != null) return limiter;
+
+    limiter = new ConcurrencyLimiter(maxConcurrentCalls, maxQueuedCalls, queueOrder);
+    ConcurrencyLimiter previous = limiters.putIfAbsent(scope, limiter);
+    if (previous != null) return previous;
+
+    monitor.onServerStarted(scope, limiter);
+    return limiter;
+  }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * A {@link Call} which applies the delay, failures and limits of a {@link SimulatedNetwork} to its delegate,
+ * like the {@code BehaviorCall} of retrofit-mock does, but waiting on a {@link MockeryClock} instead of
+ * sleeping a thread of the executor. Once the delay is due, the response is handed over to the executor,
+ * so the clock never runs client code itself. A blocking {@link #execute()} takes the response on the calling
+ * thread instead, so it never waits for a thread of the executor, not even when it is called from a callback
+ * running on one.
+ */
+final class DelayedCall<T> implements Call<T> {
+  private final SimulatedNetwork network;
+  private final ExecutorService executor;
+  private final MockeryClock clock;
+  private final Call<T> delegate;
+  private volatile Executor dispatcher;
+  private volatile Future<?> task;
+  private volatile Runnable response;
+  private volatile boolean canceled;
+  private boolean executed;
+
+  DelayedCall(SimulatedNetwork network, ExecutorService executor, MockeryClock clock, Call<T> delegate) {
+    this.network = network;
+    this.executor = executor;
+    this.clock = clock;
+    this.delegate = delegate;
+  }
+
+  @Override public Response<T> execute() throws IOException {
+    final AtomicReference<Response<T>> responseRef = new AtomicReference<>();
+    final AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    final CallerExecutor caller = new CallerExecutor();
+
+    start(new Callback<T>() {
+      @Override public void onResponse(Call<T> call, Response<T> response) {
+        responseRef.set(response);
+        caller.finish();
+      }
+
+      @Override public void onFailure(Call<T> call, Throwable t) {
+        failureRef.set(t);
+        caller.finish();
+      }
+    }, caller);
+
+    try {
+      for (Runnable runnable = caller.take(); runnable != null; runnable = caller.take()) {
+        runnable.run();
+      }
+    } catch (InterruptedException e) {
+      cancel();
+      caller.abandon();
+      throw new IOException("canceled");
+    }
+
+    Response<T> response = responseRef.get();
+    if (response != null) return response;
+
+    Throwable failure = failureRef.get();
+    if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+    if (failure instanceof IOException) throw (IOException) failure;
+    throw new RuntimeException(failure);
+  }
+
+  @Override public void enqueue(Callback<T> callback) {
+    if (callback == null) throw new NullPointerException("callback == null");
+    start(callback, executor);
+  }
+
+  /**
+   * Start the call, handing its response over to the dispatcher once it is due.
+   */
+  private void start(final Callback<T> callback, Executor dispatcher) {
+    synchronized (this) {
+      if (executed) throw new IllegalStateException("Already executed");
+      executed = true;
+    }
+    this.dispatcher = dispatcher;
+
+    final boolean failure = network.calculateIsFailure();
+    final long delay = network.calculateDelayMillis();
+    final ConcurrencyLimiter limiter = network.limiter();
+    RateLimiter rateLimiter = network.rateLimiter();
+
+    final long retryAfterMillis = failure || rateLimiter == null ? 0 : rateLimiter.tryAcquire();
+    if (retryAfterMillis > 0) {
+      dispatcher.execute(new Runnable() {
+        @Override public void run() {
+          throttle(callback, retryAfterMillis);
+        }
+      });
+      return;
+    }
+
+    if (failure || limiter == null) {
+      process(callback, failure, delay, null);
+      return;
+    }
+
+    boolean accepted = limiter.submit(new Runnable() {
+      @Override public void run() {
+        process(callback, false, delay, limiter);
+      }
+    });
+
+    if (!accepted) {
+      dispatcher.execute(new Runnable() {
+        @Override public void run() {
+          reject(callback);
+        }
+      });
+    }
+  }
+
+  /**
+   * Await the delay and then respond, releasing the slot of the server held by the call, if any.
+   */
+  private void process(final Callback<T> callback, final boolean failure, long delay,
+      final ConcurrencyLimiter limiter) {
+    final Runnable response = new Runnable() {
+      @Override public void run() {
+        if (limiter != null) limiter.release();
+        respond(callback, failure);
+      }
+    };
+    this.response = response;
+
+    if (delay <= 0 || canceled) {
+      dispatcher.execute(response);
+      return;
+    }
+
+    task = clock.schedule(new Runnable() {
+      @Override public void run() {
+        dispatcher.execute(response);
+      }
+    }, delay);
+  }
+
+  /**
+   * Respond as a server whose queue is full does.
+   */
+  private void reject(Callback<T> callback) {
+    error(callback, new okhttp3.Response.Builder()
+        .code(503)
+        .message("Service Unavailable"));
+  }
+
+  /**
+   * Respond as a server whose rate limit is exceeded does, telling the seconds to wait before retrying.
+   */
+  private void throttle(Callback<T> callback, long retryAfterMillis) {
+    long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    error(callback, new okhttp3.Response.Builder()
+        .code(429)
+        .message("Too Many Requests")
+        .header("Retry-After", String.valueOf(retryAfterSeconds)));
+  }
+
+  private void error(Callback<T> callback, okhttp3.Response.Builder rawResponse) {
+    if (canceled) {
+      callback.onFailure(this, new IOException("canceled"));
+      return;
+    }
+
+    ResponseBody body = ResponseBody.create(GetErrorBody.JSON, "");
+    okhttp3.Response raw = rawResponse
+        .protocol(Protocol.HTTP_1_1)
+        .request(new Request.Builder().url("http://localhost/").build())
+        .build();
+    callback.onResponse(this, Response.<T>error(body, raw));
+  }
+
+  private void respond(final Callback<T> callback, boolean failure) {
+    if (canceled) {
+      callback.onFailure(this, new IOException("canceled"));
+    } else if (failure) {
+      callback.onFailure(this, network.failureException());
+    } else {
+      delegate.enqueue(new Callback<T>() {
+        @Override public void onResponse(Call<T> call, Response<T> response) {
+          callback.onResponse(DelayedCall.this, response);
+        }
+
+        @Override public void onFailure(Call<T> call, Throwable t) {
+          callback.onFailure(DelayedCall.this, t);
+        }
+      });
+    }
+  }
+
+  @Override public synchronized boolean isExecuted() {
+    return executed;
+  }
+
+  /**
+   * If the delay is still pending, it is dropped and the callback is notified right away.
+   * A call still waiting for a slot of the server is notified as soon as it gets one.
+   */
+  @Override public void cancel() {
+    canceled = true;
+
+    Future<?> pending = task;
+    if (pending != null && pending.cancel(false)) {
+      dispatcher.execute(response);
+    }
+  }
+
+  @Override public boolean isCanceled() {
+    return canceled;
+  }
+
+  @Override public Call<T> clone() {
+    return new DelayedCall<>(network, executor, clock, delegate.clone());
+  }
+
+  @Override public Request request() {
+    return delegate.request();
+  }
+
+  /**
+   * Queues the responses of {@link #execute()} for the calling thread to run them. If the caller stops waiting,
+   * what is still pending goes to the executor, so the slots of the server held by the call are released anyway.
+   */
+  private final class CallerExecutor implements Executor {
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private boolean finished;
+    private boolean abandoned;
+
+    @Override public synchronized void execute(Runnable runnable) {
+      if (abandoned) {
+        executor.execute(runnable);
+        return;
+      }
+
+      pending.add(runnable);
+      notifyAll();
+    }
+
+    /**
+     * Wait for the next runnable, or return null once the call has responded and nothing is pending.
+     */
+    synchronized Runnable take() throws InterruptedException {
+      while (pending.isEmpty() && !finished) wait();
+      return pending.poll();
+    }
+
+    synchronized void finish() {
+      finished = true;
+      notifyAll();
+    }
+
+    synchronized void abandon() {
+      abandoned = true;
+      for (Runnable runnable = pending.poll(); runnable != null; runnable = pending.poll()) {
+        executor.execute(runnable);
+      }
+    }
+  }
+
+}
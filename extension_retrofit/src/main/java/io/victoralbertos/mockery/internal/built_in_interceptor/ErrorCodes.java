@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The status codes of the error responses of a method, each one drawn with the probability of its weight.
+ */
+final class ErrorCodes {
+  static final ErrorCodes NOT_FOUND = new ErrorCodes(new int[] {404}, new int[0]);
+  private final int[] codes;
+  private final long[] cumulativeWeights;
+
+  /**
+   * @param codes the status codes, between 400 and 599.
+   * @param weights the positive weight of each code, or none to draw all of them equally often.
+   */
+  ErrorCodes(int[] codes, int[] weights) {
+    if (codes.length == 0) throw new IllegalArgumentException("At least one error code is required");
+    if (weights.length != 0 && weights.length != codes.length) {
+      throw new IllegalArgumentException("There must be one weight per error code");
+    }
+
+    this.codes = codes.clone();
+    this.cumulativeWeights = new long[codes.length];
+
+    long total = 0;
+    for (int i = 0; i < codes.length; i++) {
+      if (codes[i] < 400 || codes[i] > 599) {
+        throw new IllegalArgumentException("Error code " + codes[i] + " must be between 400 and 599");
+      }
+
+      int weight = weights.length == 0 ? 1 : weights[i];
+      if (weight <= 0) throw new IllegalArgumentException("Error code weights must be positive values");
+
+      total += weight;
+      cumulativeWeights[i] = total;
+    }
+  }
+
+  int next(Random random) {
+    if (codes.length == 1) return codes[0];
+
+    long total = cumulativeWeights[codes.length - 1];
+    long draw = (long) (random.nextDouble() * total);
+
+    int index = Arrays.binarySearch(cumulativeWeights, draw + 1);
+    return codes[index >= 0 ? index : -index - 1];
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.Stateful;
+import io.victoralbertos.mockery.api.built_in_interceptor.ErrorResponseAdapter;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+/**
+ * Build the bodies of the error responses, adapting every distinct message only the first time it is found.
+ * A body can be read only once, so a new one is created for every call, but from the bytes already adapted
+ * and encoded. The number of cached messages is bounded, as they may embed the values which failed the
+ * validation, and {@link Stateful} adapters, which may adapt the same message differently, are not cached.
+ */
+final class GetErrorBody {
+  static final MediaType JSON = MediaType.parse("application/json");
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final int MAX_CACHED_MESSAGES = 1024;
+  private final ConcurrentMap<ErrorResponseAdapter, ConcurrentMap<String, byte[]>> bodies;
+
+  GetErrorBody() {
+    this.bodies = new ConcurrentHashMap<>();
+  }
+
+  ResponseBody from(ErrorResponseAdapter adapter, AssertionError assertionError) {
+    String message = assertionError.getMessage() != null ? assertionError.getMessage() : "";
+    if (adapter.getClass().isAnnotationPresent(Stateful.class)) {
+      return ResponseBody.create(JSON, adapter.adapt(message).getBytes(UTF_8));
+    }
+
+    ConcurrentMap<String, byte[]> adaptedMessages = adaptedMessages(adapter);
+
+    byte[] body = adaptedMessages.get(message);
+    if (body == null) {
+      body = adapter.adapt(message).getBytes(UTF_8);
+      if (adaptedMessages.size() < MAX_CACHED_MESSAGES) adaptedMessages.putIfAbsent(message, body);
+    }
+
+    return ResponseBody.create(JSON, body);
+  }
+
+  private ConcurrentMap<String, byte[]> adaptedMessages(ErrorResponseAdapter adapter) {
+    ConcurrentMap<String, byte[]> adaptedMessages = bodies.get(adapter);
+    if (adaptedMessages != null) return adaptedMessages;
+
+    adaptedMessages = new ConcurrentHashMap<>();
+    ConcurrentMap<String, byte[]> previous = bodies.putIfAbsent(adapter, adaptedMessages);
+    return previous != null ? previous : adaptedMessages;
+  }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.JsonConverter;
+import io.victoralbertos.mockery.api.MockeryClock;
+import io.victoralbertos.mockery.api.built_in_interceptor.ConcurrencyMonitor;
+import io.victoralbertos.mockery.api.built_in_interceptor.NetworkBehaviour;
+import io.victoralbertos.mockery.api.built_in_mockery.RequestBodyDTO;
+import io.victoralbertos.mockery.api.built_in_mockery.RequestBodyValid;
+import io.victoralbertos.mockery.internal.BehaviourRegistry;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolve the {@link NetworkSettings} of a method only the first time it is called. The values of the interface
+ * annotation can not change for a given method, so the method alone is the key.
+ */
+final class GetNetworkSettings {
+  private final ConcurrentMap<Method, NetworkSettings> settings;
+
+  GetNetworkSettings() {
+    this.settings = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Return the settings of the method if they have been already resolved, or null otherwise. It allows
+   * to skip reading the values of the interface annotation on every call.
+   */
+  NetworkSettings cached(Method method) {
+    return settings.get(method);
+  }
+
+  /**
+   * Resolve the settings of the method, overriding the ones of its interface with its {@link NetworkBehaviour}.
+   * @param registry the behaviours of the mocked instance, which supply its clock and own its limiters.
+   */
+  NetworkSettings from(BehaviourRegistry registry, Class<?> mockingClass, Method method,
+      NetworkSettings interfaceSettings) {
+    NetworkSettings networkSettings = settings.get(method);
+    if (networkSettings != null) return networkSettings;
+
+    long delay = interfaceSettings.delay;
+    int failurePercent = interfaceSettings.failurePercent;
+    int variancePercentage = interfaceSettings.variancePercentage;
+    long bytesPerSecond = interfaceSettings.bytesPerSecond;
+    int maxConcurrentCalls = interfaceSettings.maxConcurrentCalls;
+    int maxQueuedCalls = interfaceSettings.maxQueuedCalls;
+    int rateLimit = interfaceSettings.rateLimit;
+    int rateLimitBurst = interfaceSettings.rateLimitBurst;
+    AnnotatedElement concurrencyScope = mockingClass;
+    AnnotatedElement rateScope = mockingClass;
+    ErrorCodes errorCodes = ErrorCodes.NOT_FOUND;
+
+    NetworkBehaviour override = method.getAnnotation(NetworkBehaviour.class);
+    if (override != null) {
+      if (override.delay() != NetworkBehaviour.INHERIT) delay = override.delay();
+      if (override.failurePercent() != NetworkBehaviour.INHERIT) failurePercent = override.failurePercent();
+      if (override.variancePercentage() != NetworkBehaviour.INHERIT) variancePercentage = override.variancePercentage();
+      if (override.bytesPerSecond() != NetworkBehaviour.INHERIT) bytesPerSecond = override.bytesPerSecond();
+
+      if (override.maxConcurrentCalls() != NetworkBehaviour.INHERIT) {
+        maxConcurrentCalls = override.maxConcurrentCalls();
+        concurrencyScope = method;
+      }
+      if (override.maxQueuedCalls() != NetworkBehaviour.INHERIT) {
+        maxQueuedCalls = override.maxQueuedCalls();
+        concurrencyScope = method;
+      }
+
+      if (override.rateLimit() != NetworkBehaviour.INHERIT) {
+        rateLimit = override.rateLimit();
+        rateScope = method;
+      }
+      if (override.rateLimitBurst() != NetworkBehaviour.INHERIT) {
+        rateLimitBurst = override.rateLimitBurst();
+        rateScope = method;
+      }
+
+      if (override.errorCodes().length != 0) {
+        errorCodes = errorCodes(mockingClass, method, override);
+      }
+    }
+
+    ConcurrencyLimiter limiter = maxConcurrentCalls == 0 ? null : registry.from(ConcurrencyLimiters.class)
+        .from(concurrencyScope, maxConcurrentCalls, maxQueuedCalls, interfaceSettings.queueOrder,
+            registry.from(ConcurrencyMonitor.class));
+
+    MockeryClock clock = registry.clock();
+    RateLimiter rateLimiter = rateLimit == 0 ? null : registry.from(RateLimiters.class)
+        .from(rateScope, rateLimit, rateLimitBurst == 0 ? rateLimit : rateLimitBurst, clock);
+
+    networkSettings = new NetworkSettings(delay, failurePercent, variancePercentage, bytesPerSecond,
+        maxConcurrentCalls, maxQueuedCalls, interfaceSettings.queueOrder, rateLimit, rateLimitBurst,
+        interfaceSettings.executorProvider, interfaceSettings.latencyModel, interfaceSettings.failureModel,
+        interfaceSettings.errorResponseAdapter)
+        .bind(limiter, rateLimiter, errorCodes, uploadBytesPerSecond(method),
+            bytesPerSecond == 0 ? null : jsonSize(registry, mockingClass, method));
+    NetworkSettings previous = settings.putIfAbsent(method, networkSettings);
+    return previous != null ? previous : networkSettings;
+  }
+
+  /**
+   * Return the bytes per second set on the {@link RequestBodyDTO} or {@link RequestBodyValid} of every param,
+   * or null if none of them throttles its upload.
+   */
+  private long[] uploadBytesPerSecond(Method method) {
+    Annotation[][] paramsAnnotations = method.getParameterAnnotations();
+    long[] uploadBytesPerSecond = new long[paramsAnnotations.length];
+    boolean throttled = false;
+
+    for (int i = 0; i < paramsAnnotations.length; i++) {
+      for (Annotation annotation : paramsAnnotations[i]) {
+        if (annotation instanceof RequestBodyDTO) {
+          uploadBytesPerSecond[i] = ((RequestBodyDTO) annotation).bytesPerSecond();
+        } else if (annotation instanceof RequestBodyValid) {
+          uploadBytesPerSecond[i] = ((RequestBodyValid) annotation).bytesPerSecond();
+        }
+        throttled |= uploadBytesPerSecond[i] > 0;
+      }
+    }
+
+    return throttled ? uploadBytesPerSecond : null;
+  }
+
+  /**
+   * The size of a throttled response is the one of its json, so the mocked interface must declare
+   * its {@link JsonConverter}. A missing one is reported when the settings of the method are resolved.
+   */
+  private JsonSize jsonSize(BehaviourRegistry registry, Class<?> mockingClass, Method method) {
+    JsonConverter jsonConverter = mockingClass.getAnnotation(JsonConverter.class);
+
+    if (jsonConverter == null) {
+      throw new RuntimeException(Messages.noJsonConverterForBandwidth(mockingClass, method));
+    }
+
+    return new JsonSize(registry.from(jsonConverter.value()));
+  }
+
+  private ErrorCodes errorCodes(Class<?> mockingClass, Method method, NetworkBehaviour override) {
+    try {
+      return new ErrorCodes(override.errorCodes(), override.errorCodeWeights());
+    } catch (IllegalArgumentException e) {
+      throw new RuntimeException(Messages.illegalErrorCodes(mockingClass, method, e.getMessage()));
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.FailureModel;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link FailureModel} whose failures come in bursts, as they do when a server goes through an outage,
+ * following the two states Gilbert-Elliott model: while recovered every call succeeds, while in a burst every
+ * call fails, and after each call the server may switch to the other state.
+ * The mean length of the bursts, in calls, is set by {@code meanBurstLength}. The mean length of the recoveries is
+ * either set by {@code meanRecoveryLength} or, by default, derived from the failure percent, so the share of
+ * failed calls in the long run is still the failure percent of the annotation. To use other lengths than the
+ * default ones, supply {@link #of(double)} or {@link #of(double, double)} to the builder of the mocked interface,
+ * e.g. {@code .behaviour(GilbertElliottFailures.class, GilbertElliottFailures.of(20, 500))}.
+ * The state is shared by all the methods of the interface, as they are served by the same server.
+ */
+public class GilbertElliottFailures implements FailureModel {
+  private final double meanBurstLength;
+  private final double meanRecoveryLength;
+  private final AtomicBoolean inBurst;
+
+  /**
+   * Bursts of 5 calls on average, with the recoveries derived from the failure percent.
+   */
+  public GilbertElliottFailures() {
+    this(5);
+  }
+
+  /**
+   * @param meanBurstLength the mean number of consecutive failed calls. It must be at least 1.
+   */
+  public GilbertElliottFailures(double meanBurstLength) {
+    this(meanBurstLength, 0, false);
+  }
+
+  /**
+   * @param meanBurstLength the mean number of consecutive failed calls. It must be at least 1.
+   * @param meanRecoveryLength the mean number of consecutive succeeded calls. It must be at least 1.
+   * The failure percent of the annotation is then ignored.
+   */
+  public GilbertElliottFailures(double meanBurstLength, double meanRecoveryLength) {
+    this(meanBurstLength, meanRecoveryLength, true);
+  }
+
+  private GilbertElliottFailures(double meanBurstLength, double meanRecoveryLength, boolean fixedRecovery) {
+    if (meanBurstLength < 1) throw new IllegalArgumentException("Mean burst length must be at least 1");
+    if (fixedRecovery && meanRecoveryLength < 1) {
+      throw new IllegalArgumentException("Mean recovery length must be at least 1");
+    }
+
+    this.meanBurstLength = meanBurstLength;
+    this.meanRecoveryLength = meanRecoveryLength;
+    this.inBurst = new AtomicBoolean(false);
+  }
+
+  /**
+   * @param meanBurstLength the mean number of consecutive failed calls. It must be at least 1.
+   */
+  public static GilbertElliottFailures of(double meanBurstLength) {
+    return new GilbertElliottFailures(meanBurstLength);
+  }
+
+  /**
+   * @param meanBurstLength the mean number of consecutive failed calls. It must be at least 1.
+   * @param meanRecoveryLength the mean number of consecutive succeeded calls. It must be at least 1.
+   * The failure percent of the annotation is then ignored.
+   */
+  public static GilbertElliottFailures of(double meanBurstLength, double meanRecoveryLength) {
+    return new GilbertElliottFailures(meanBurstLength, meanRecoveryLength);
+  }
+
+  @Override public boolean isFailure(int failurePercent, Random random) {
+    if (meanRecoveryLength == 0 && failurePercent >= 100) return true;
+
+    boolean burst = inBurst.get();
+    double switchProbability = burst ? 1 / meanBurstLength : burstProbability(failurePercent);
+
+    if (random.nextDouble() < switchProbability) inBurst.compareAndSet(burst, !burst);
+    return burst;
+  }
+
+  /**
+   * The probability of a recovered server to start a burst after a call. When derived from the failure percent,
+   * it is the one whose steady state spends that percent of the calls in a burst.
+   */
+  private double burstProbability(int failurePercent) {
+    if (meanRecoveryLength > 0) return 1 / meanRecoveryLength;
+    if (failurePercent <= 0) return 0;
+
+    double failureRatio = failurePercent / 100d;
+    return Math.min(1, failureRatio / (1 - failureRatio) / meanBurstLength);
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A {@link LatencyModel} which replays the latencies recorded by an HdrHistogram on a real service.
+ * The recording is read from a classpath resource holding the output of
+ * {@code Histogram#outputPercentileDistribution}, either in its plain or in its csv format, and replayed
+ * as a {@link PercentileLatency}. The annotation delay and variance percentage are ignored. To use it, supply
+ * {@link #of(String, double)} to the builder of the mocked interface, e.g.
+ * {@code .behaviour(HdrHistogramLatency.class, HdrHistogramLatency.of("latencies/search.hgrm", 1000))}
+ * for a histogram recorded in microseconds.
+ */
+public class HdrHistogramLatency implements LatencyModel {
+  private final PercentileLatency percentileLatency;
+
+  /**
+   * @param resource the classpath resource with the percentile distribution.
+   * @param valueUnitsPerMillisecond how many units of the recorded values make one millisecond,
+   * e.g. 1 for milliseconds or 1000 for microseconds.
+   */
+  public HdrHistogramLatency(String resource, double valueUnitsPerMillisecond) {
+    if (valueUnitsPerMillisecond <= 0) {
+      throw new IllegalArgumentException("Value units per millisecond must be a positive value");
+    }
+    this.percentileLatency = read(resource, valueUnitsPerMillisecond);
+  }
+
+  /**
+   * @param resource the classpath resource with the percentile distribution.
+   * @param valueUnitsPerMillisecond how many units of the recorded values make one millisecond,
+   * e.g. 1 for milliseconds or 1000 for microseconds.
+   */
+  public static HdrHistogramLatency of(String resource, double valueUnitsPerMillisecond) {
+    return new HdrHistogramLatency(resource, valueUnitsPerMillisecond);
+  }
+
+  @Override public long delayMillis(long delay, int variancePercentage, Random random) {
+    return percentileLatency.delayMillis(delay, variancePercentage, random);
+  }
+
+  private PercentileLatency read(String resource, double valueUnitsPerMillisecond) {
+    InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource);
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    if (inputStream == null && contextClassLoader != null) {
+      inputStream = contextClassLoader.getResourceAsStream(resource);
+    }
+    if (inputStream == null) throw new RuntimeException("Resource " + resource + " not found in the classpath");
+
+    List<double[]> rows = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, "UTF-8"))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        double[] row = parseRow(line);
+        if (row != null) rows.add(row);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    if (rows.isEmpty()) throw new RuntimeException("Resource " + resource + " holds no percentile distribution");
+
+    double[] percentiles = new double[rows.size()];
+    double[] delays = new double[rows.size()];
+    for (int i = 0; i < rows.size(); i++) {
+      delays[i] = rows.get(i)[0] / valueUnitsPerMillisecond;
+      percentiles[i] = Math.min(100, rows.get(i)[1] * 100);
+    }
+
+    return new PercentileLatency(percentiles, delays);
+  }
+
+  /**
+   * Return the value and the percentile of the line, or null for the headers, blank lines and the summary
+   * lines starting with #.
+   */
+  private static double[] parseRow(String line) {
+    String[] columns = line.trim().split("[\\s,]+");
+    if (columns.length < 2) return null;
+
+    try {
+      return new double[] {Double.parseDouble(columns[0]), Double.parseDouble(columns[1])};
+    } catch (NumberFormatException ignore) {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.FailureModel;
+import java.util.Random;
+
+/**
+ * The default {@link FailureModel}: every call fails with the probability of the failure percent,
+ * regardless of the previous ones, as {@code NetworkBehavior} of retrofit-mock does.
+ */
+public final class IndependentFailures implements FailureModel {
+
+  @Override public boolean isFailure(int failurePercent, Random random) {
+    return random.nextInt(100) < failurePercent;
+  }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.jolyglot.JolyglotGenerics;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Measure the bytes a response body takes as json. Only the first body of every class is serialized, and the
+ * following ones of the same class are taken to be as large, so throttling a call does not serialize its mock.
+ */
+final class JsonSize {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private final JolyglotGenerics jolyglot;
+  private final ConcurrentMap<Class<?>, Long> bytes;
+
+  JsonSize(JolyglotGenerics jolyglot) {
+    this.jolyglot = jolyglot;
+    this.bytes = new ConcurrentHashMap<>();
+  }
+
+  long of(Object body) {
+    if (body == null) return 0;
+
+    Long size = bytes.get(body.getClass());
+    if (size != null) return size;
+
+    size = (long) jolyglot.toJson(body).getBytes(UTF_8).length;
+    Long previous = bytes.putIfAbsent(body.getClass(), size);
+    return previous != null ? previous : size;
+  }
+
+}
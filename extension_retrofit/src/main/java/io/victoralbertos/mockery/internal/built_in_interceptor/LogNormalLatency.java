@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import java.util.Random;
+
+/**
+ * A {@link LatencyModel} whose delays follow a log-normal distribution with the annotation delay as median,
+ * which is how the latencies of real services usually look like: most calls close to the median and a long right tail.
+ * The variance percentage is ignored, the spread is set by {@code sigma} instead. To use another sigma than the
+ * default, supply {@link #of(double)} to the builder of the mocked interface, e.g.
+ * {@code .behaviour(LogNormalLatency.class, LogNormalLatency.of(0.8))}.
+ */
+public class LogNormalLatency implements LatencyModel {
+  private final double sigma;
+
+  /**
+   * Sigma 0.5, which places p99 at around 3.2 times the median.
+   */
+  public LogNormalLatency() {
+    this(0.5);
+  }
+
+  /**
+   * @param sigma the standard deviation of the logarithm of the delay. It must be a positive value.
+   */
+  public LogNormalLatency(double sigma) {
+    if (sigma <= 0) throw new IllegalArgumentException("Sigma must be a positive value");
+    this.sigma = sigma;
+  }
+
+  /**
+   * @param sigma the standard deviation of the logarithm of the delay. It must be a positive value.
+   */
+  public static LogNormalLatency of(double sigma) {
+    return new LogNormalLatency(sigma);
+  }
+
+  @Override public long delayMillis(long delay, int variancePercentage, Random random) {
+    return (long) (delay * Math.exp(sigma * random.nextGaussian()));
+  }
+
+}
@@ -40,4 +40,22 @@ final class Messages {
         method.getName());
   }
 
+  static String noJsonConverterForBandwidth(Class mockingClass, Method method) {
+    String message = "When throttling the response of method %s#%s \n"
+        + "no @JsonConverter was found. The size of the response is the one of its json, which requires a json converter.\n"
+        + "To fix it, annotate %s with @JsonConverter supplying a JolyglotGenerics implementation.\n";
+
+    return String.format(message, mockingClass.getSimpleName(),
+        method.getName(), mockingClass.getSimpleName());
+  }
+
+  static String illegalErrorCodes(Class mockingClass, Method method, String reason) {
+    String message = "When checking the error codes of method %s#%s \n"
+        + "%s.\n"
+        + "To fix it, amend errorCodes and errorCodeWeights of its @NetworkBehaviour.\n";
+
+    return String.format(message, mockingClass.getSimpleName(),
+        method.getName(), reason);
+  }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.ErrorResponseAdapter;
+import io.victoralbertos.mockery.api.built_in_interceptor.ExecutorProvider;
+import io.victoralbertos.mockery.api.built_in_interceptor.FailureModel;
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import io.victoralbertos.mockery.api.built_in_interceptor.QueueOrder;
+
+/**
+ * The network behaviour which applies to the calls of a method: the one of the interceptor annotation
+ * of its interface, overridden by its {@link io.victoralbertos.mockery.api.built_in_interceptor.NetworkBehaviour}.
+ */
+final class NetworkSettings {
+  final long delay;
+  final int failurePercent;
+  final int variancePercentage;
+  final long bytesPerSecond;
+  final int maxConcurrentCalls;
+  final int maxQueuedCalls;
+  final QueueOrder queueOrder;
+  final int rateLimit;
+  final int rateLimitBurst;
+  final Class<? extends ExecutorProvider> executorProvider;
+  final Class<? extends LatencyModel> latencyModel;
+  final Class<? extends FailureModel> failureModel;
+  final Class<? extends ErrorResponseAdapter> errorResponseAdapter;
+  /**
+   * The slots of the server shared by the calls to the method, or null if its concurrency is not limited.
+   */
+  final ConcurrencyLimiter limiter;
+  /**
+   * The token bucket shared by the calls to the method, or null if its rate is not limited.
+   */
+  final RateLimiter rateLimiter;
+  /**
+   * The status codes of the error responses of the method.
+   */
+  final ErrorCodes errorCodes;
+  /**
+   * The bandwidth at which every param of the method is uploaded, or null if no request body is throttled.
+   */
+  final long[] uploadBytesPerSecond;
+  /**
+   * The size of the response bodies of the method, or null if they are not throttled.
+   */
+  final JsonSize jsonSize;
+
+  /**
+   * Use the default executor, latency model, failure model and error response adapter.
+   */
+  NetworkSettings(long delay, int failurePercent, int variancePercentage, long bytesPerSecond,
+      int maxConcurrentCalls, int maxQueuedCalls, QueueOrder queueOrder, int rateLimit, int rateLimitBurst) {
+    this(delay, failurePercent, variancePercentage, bytesPerSecond, maxConcurrentCalls, maxQueuedCalls,
+        queueOrder, rateLimit, rateLimitBurst, SharedExecutorProvider.class, UniformLatency.class,
+        IndependentFailures.class, ByPassErrorResponseAdapter.class);
+  }
+
+  NetworkSettings(long delay, int failurePercent, int variancePercentage, long bytesPerSecond,
+      int maxConcurrentCalls, int maxQueuedCalls, QueueOrder queueOrder, int rateLimit, int rateLimitBurst,
+      Class<? extends ExecutorProvider> executorProvider, Class<? extends LatencyModel> latencyModel,
+      Class<? extends FailureModel> failureModel, Class<? extends ErrorResponseAdapter> errorResponseAdapter) {
+    this.delay = delay;
+    this.failurePercent = failurePercent;
+    this.variancePercentage = variancePercentage;
+    this.bytesPerSecond = bytesPerSecond;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxQueuedCalls = maxQueuedCalls;
+    this.queueOrder = queueOrder;
+    this.rateLimit = rateLimit;
+    this.rateLimitBurst = rateLimitBurst;
+    this.executorProvider = executorProvider;
+    this.latencyModel = latencyModel;
+    this.failureModel = failureModel;
+    this.errorResponseAdapter = errorResponseAdapter;
+    this.limiter = null;
+    this.rateLimiter = null;
+    this.errorCodes = ErrorCodes.NOT_FOUND;
+    this.uploadBytesPerSecond = null;
+    this.jsonSize = null;
+  }
+
+  private NetworkSettings(NetworkSettings settings, ConcurrencyLimiter limiter, RateLimiter rateLimiter,
+      ErrorCodes errorCodes, long[] uploadBytesPerSecond, JsonSize jsonSize) {
+    this.delay = settings.delay;
+    this.failurePercent = settings.failurePercent;
+    this.variancePercentage = settings.variancePercentage;
+    this.bytesPerSecond = settings.bytesPerSecond;
+    this.maxConcurrentCalls = settings.maxConcurrentCalls;
+    this.maxQueuedCalls = settings.maxQueuedCalls;
+    this.queueOrder = settings.queueOrder;
+    this.rateLimit = settings.rateLimit;
+    this.rateLimitBurst = settings.rateLimitBurst;
+    this.executorProvider = settings.executorProvider;
+    this.latencyModel = settings.latencyModel;
+    this.failureModel = settings.failureModel;
+    this.errorResponseAdapter = settings.errorResponseAdapter;
+    this.limiter = limiter;
+    this.rateLimiter = rateLimiter;
+    this.errorCodes = errorCodes;
+    this.uploadBytesPerSecond = uploadBytesPerSecond;
+    this.jsonSize = jsonSize;
+  }
+
+  /**
+   * Return a copy of these settings bound to the limiters and the error codes of the simulated server,
+   * to the bandwidth of the request bodies of the method and to the size of its response bodies.
+   */
+  NetworkSettings bind(ConcurrencyLimiter limiter, RateLimiter rateLimiter, ErrorCodes errorCodes,
+      long[] uploadBytesPerSecond, JsonSize jsonSize) {
+    return new NetworkSettings(this, limiter, rateLimiter, errorCodes, uploadBytesPerSecond, jsonSize);
+  }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.MockeryClock;
+import io.victoralbertos.mockery.api.built_in_interceptor.ExecutorProvider;
+import io.victoralbertos.mockery.api.built_in_interceptor.FailureModel;
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import io.victoralbertos.mockery.internal.MetadataAccess;
+import java.lang.annotation.Annotation;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.mock.Calls;
+import retrofit2.mock.NetworkBehavior;
+
+/**
+ * Simulate the network of the calls to an interface annotated with {@code Retrofit}, {@code RxRetrofit}
+ * or {@code Rx2Retrofit}: their delay, failures, throttling and limits. The three annotations declare
+ * the same attributes, so every interceptor only supplies how to read them and the Retrofit instance which
+ * adapts the calls to its return types.
+ * @param <A> the type of the interceptor annotation.
+ */
+final class NetworkSimulation<A extends Annotation> {
+  private final Attributes<A> attributes;
+  private final CallAdapter callAdapter;
+  private final GetNetworkSettings getNetworkSettings;
+  private final GetErrorBody getErrorBody;
+
+  NetworkSimulation(retrofit2.Retrofit retrofit, Attributes<A> attributes) {
+    this.attributes = attributes;
+    this.callAdapter = new CallAdapter(retrofit);
+    this.getNetworkSettings = new GetNetworkSettings();
+    this.getErrorBody = new GetErrorBody();
+  }
+
+  /**
+   * Read the network attributes of the interceptor annotation.
+   */
+  interface Attributes<A extends Annotation> {
+    NetworkSettings from(A annotation);
+  }
+
+  /**
+   * Return the call which responds with the legal mock, adapted to the return type of the method.
+   */
+  <T> T legal(Object mock, Metadata<A> metadata) {
+    Call<?> call = Calls.response(mock);
+    if (isInstant(metadata)) return callAdapter.adapt(metadata.getMethod(), call);
+
+    long transferMillis = uploadMillis(metadata) + transferMillis(metadata, mock);
+    return callAdapter.adapt(metadata.getMethod(),
+        network(metadata, transferMillis), executor(metadata), clock(metadata), call);
+  }
+
+  /**
+   * Return the call which responds with an error whose body is the adapted message of the assertion,
+   * adapted to the return type of the method.
+   */
+  <T> T illegal(AssertionError assertionError, Metadata<A> metadata) {
+    NetworkSettings settings = settings(metadata);
+    ResponseBody responseBody = getErrorBody.from(MetadataAccess.registryOf(metadata)
+        .from(settings.errorResponseAdapter), assertionError);
+    responseBody = throttle(metadata, responseBody);
+
+    int code = settings.errorCodes.next(metadata.getRandomSource().random());
+    Call<?> call = Calls.response(Response.error(code, responseBody));
+    if (isInstant(metadata)) return callAdapter.adapt(metadata.getMethod(), call);
+
+    return callAdapter.adapt(metadata.getMethod(),
+        network(metadata, uploadMillis(metadata)), executor(metadata), clock(metadata), call);
+  }
+
+  private ExecutorService executor(Metadata<A> metadata) {
+    ExecutorProvider executorProvider = MetadataAccess.registryOf(metadata)
+        .from(settings(metadata).executorProvider);
+    return executorProvider.executor();
+  }
+
+  private MockeryClock clock(Metadata<A> metadata) {
+    return metadata.getClock();
+  }
+
+  /**
+   * With neither delay, failures, throttling of the bodies nor limits to simulate for the method, and no
+   * executor, latency model nor failure model chosen by the client, the response is returned already
+   * completed, skipping the network simulation altogether.
+   */
+  private boolean isInstant(Metadata<A> metadata) {
+    NetworkSettings settings = settings(metadata);
+    return settings.delay == 0 && settings.failurePercent == 0 && settings.bytesPerSecond == 0
+        && settings.limiter == null && settings.rateLimiter == null && settings.uploadBytesPerSecond == null
+        && settings.executorProvider == SharedExecutorProvider.class
+        && settings.latencyModel == UniformLatency.class
+        && settings.failureModel == IndependentFailures.class;
+  }
+
+  private SimulatedNetwork network(Metadata<A> metadata, long transferMillis) {
+    NetworkSettings settings = settings(metadata);
+
+    Random random = metadata.getRandomSource().random();
+    NetworkBehavior networkBehavior = NetworkBehavior.create(random);
+    networkBehavior.setDelay(settings.delay, TimeUnit.MILLISECONDS);
+    networkBehavior.setVariancePercent(settings.variancePercentage);
+    networkBehavior.setFailurePercent(settings.failurePercent);
+
+    LatencyModel latencyModel = MetadataAccess.registryOf(metadata).from(settings.latencyModel);
+    FailureModel failureModel = MetadataAccess.registryOf(metadata).from(settings.failureModel);
+    return new SimulatedNetwork(networkBehavior, latencyModel, failureModel, random, transferMillis,
+        settings.limiter, settings.rateLimiter);
+  }
+
+  private long transferMillis(Metadata<A> metadata, Object body) {
+    NetworkSettings settings = settings(metadata);
+    if (settings.bytesPerSecond == 0) return 0;
+    return new Bandwidth(settings.bytesPerSecond, clock(metadata)).transferMillis(settings.jsonSize.of(body));
+  }
+
+  /**
+   * Return the milliseconds it takes to upload the request bodies of the call, so the slow reading of
+   * a throttled body is simulated on the clock as part of the delay instead of blocking the caller.
+   */
+  private long uploadMillis(Metadata<A> metadata) {
+    long[] uploadBytesPerSecond = settings(metadata).uploadBytesPerSecond;
+    Object[] args = metadata.getArgs();
+    if (uploadBytesPerSecond == null || args == null) return 0;
+
+    long uploadMillis = 0;
+    for (int i = 0; i < uploadBytesPerSecond.length; i++) {
+      if (uploadBytesPerSecond[i] == 0 || !(args[i] instanceof RequestBody)) continue;
+      uploadMillis += new Bandwidth(uploadBytesPerSecond[i], clock(metadata)).transferMillis((RequestBody) args[i]);
+    }
+    return uploadMillis;
+  }
+
+  private ResponseBody throttle(Metadata<A> metadata, ResponseBody body) {
+    NetworkSettings settings = settings(metadata);
+    if (settings.bytesPerSecond == 0) return body;
+    return new Bandwidth(settings.bytesPerSecond, clock(metadata)).throttle(body);
+  }
+
+  private NetworkSettings settings(Metadata<A> metadata) {
+    NetworkSettings settings = getNetworkSettings.cached(metadata.getMethod());
+    if (settings != null) return settings;
+
+    NetworkSettings interfaceSettings = attributes.from(metadata.getAnnotation());
+    return getNetworkSettings.from(MetadataAccess.registryOf(metadata), metadata.getMockingClass(),
+        metadata.getMethod(), interfaceSettings);
+  }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import java.util.Random;
+
+/**
+ * A {@link LatencyModel} whose delays follow a Pareto distribution with the annotation delay as minimum,
+ * for heavy tails where a few calls take orders of magnitude longer than the rest.
+ * The variance percentage is ignored, the weight of the tail is set by {@code alpha} instead: the lower,
+ * the heavier. To use another alpha than the default, supply {@link #of(double)} to the builder of the mocked
+ * interface, e.g. {@code .behaviour(ParetoLatency.class, ParetoLatency.of(1.5))}.
+ */
+public class ParetoLatency implements LatencyModel {
+  private final double alpha;
+
+  /**
+   * Alpha 2, which places p99 at 10 times the minimum and p999 at around 32 times.
+   */
+  public ParetoLatency() {
+    this(2);
+  }
+
+  /**
+   * @param alpha the shape of the distribution. It must be a positive value.
+   */
+  public ParetoLatency(double alpha) {
+    if (alpha <= 0) throw new IllegalArgumentException("Alpha must be a positive value");
+    this.alpha = alpha;
+  }
+
+  /**
+   * @param alpha the shape of the distribution. It must be a positive value.
+   */
+  public static ParetoLatency of(double alpha) {
+    return new ParetoLatency(alpha);
+  }
+
+  @Override public long delayMillis(long delay, int variancePercentage, Random random) {
+    double uniform = 1 - random.nextDouble();
+    return (long) (delay / Math.pow(uniform, 1 / alpha));
+  }
+
+}
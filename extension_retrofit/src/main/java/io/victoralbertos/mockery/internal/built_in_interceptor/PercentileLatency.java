@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A {@link LatencyModel} which replays a fixed table of percentiles measured on a real service, interpolating
+ * linearly between them. The annotation delay and variance percentage are ignored. To use it, supply the table
+ * with {@link #of(double[], long[])} to the builder of the mocked interface, e.g.
+ * {@code .behaviour(PercentileLatency.class,
+ * PercentileLatency.of(new double[] {50, 90, 99, 99.9, 100}, new long[] {120, 250, 900, 2500, 6000}))}.
+ */
+public class PercentileLatency implements LatencyModel {
+  private final double[] percentiles;
+  private final double[] delays;
+
+  /**
+   * @param percentiles the percentiles, between 0 and 100, in ascending order. The last one must be 100.
+   * @param delays the delay in milliseconds of each percentile, in ascending order.
+   */
+  public PercentileLatency(double[] percentiles, long[] delays) {
+    this(percentiles, toDoubles(delays));
+  }
+
+  PercentileLatency(double[] percentiles, double[] delays) {
+    checkTable(percentiles, delays);
+    this.percentiles = percentiles.clone();
+    this.delays = delays.clone();
+  }
+
+  /**
+   * @param percentiles the percentiles, between 0 and 100, in ascending order. The last one must be 100.
+   * @param delays the delay in milliseconds of each percentile, in ascending order.
+   */
+  public static PercentileLatency of(double[] percentiles, long[] delays) {
+    return new PercentileLatency(percentiles, delays);
+  }
+
+  @Override public long delayMillis(long delay, int variancePercentage, Random random) {
+    double percentile = random.nextDouble() * 100;
+
+    int index = Arrays.binarySearch(percentiles, percentile);
+    if (index >= 0) return Math.round(delays[index]);
+
+    int upper = -index - 1;
+    if (upper == 0) return Math.round(delays[0]);
+
+    int lower = upper - 1;
+    double fraction = (percentile - percentiles[lower]) / (percentiles[upper] - percentiles[lower]);
+    return Math.round(delays[lower] + fraction * (delays[upper] - delays[lower]));
+  }
+
+  private static void checkTable(double[] percentiles, double[] delays) {
+    if (percentiles.length == 0 || percentiles.length != delays.length) {
+      throw new IllegalArgumentException("Percentiles and delays must be non empty and of the same length");
+    }
+
+    for (int i = 0; i < percentiles.length; i++) {
+      if (percentiles[i] < 0 || percentiles[i] > 100) {
+        throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+      }
+      if (delays[i] < 0) {
+        throw new IllegalArgumentException("Delays must be positive values");
+      }
+      if (i > 0 && (percentiles[i] < percentiles[i - 1] || delays[i] < delays[i - 1])) {
+        throw new IllegalArgumentException("Percentiles and delays must be in ascending order");
+      }
+    }
+
+    if (percentiles[percentiles.length - 1] != 100) {
+      throw new IllegalArgumentException("The last percentile must be 100");
+    }
+  }
+
+  private static double[] toDoubles(long[] values) {
+    double[] doubles = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      doubles[i] = values[i];
+    }
+    return doubles;
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulate a server which accepts at most a rate of calls per second, allowing bursts up to a number of calls,
+ * as a token bucket does. The bucket is kept as the theoretical arrival time of the next call (the generic cell
+ * rate algorithm), a single atomic value updated with compare-and-set, so refilling needs neither a lock
+ * nor a timer.
+ */
+final class RateLimiter {
+  private static final long NANOS_PER_SECOND = 1000000000;
+  private static final long NANOS_PER_MILLI = 1000000;
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final MockeryClock clock;
+  private final AtomicLong theoreticalArrival;
+
+  /**
+   * @param callsPerSecond the rate at which the bucket is refilled, at most one call per nanosecond.
+   * @param burst the capacity of the bucket.
+   */
+  RateLimiter(int callsPerSecond, int burst, MockeryClock clock) {
+    if (callsPerSecond <= 0) throw new IllegalArgumentException("Rate limit must be a positive value");
+    if (callsPerSecond > NANOS_PER_SECOND) {
+      throw new IllegalArgumentException("Rate limit must not exceed " + NANOS_PER_SECOND + " calls per second");
+    }
+    if (burst <= 0) throw new IllegalArgumentException("Rate limit burst must be a positive value");
+
+    this.intervalNanos = NANOS_PER_SECOND / callsPerSecond;
+    this.toleranceNanos = intervalNanos * (burst - 1);
+    this.clock = clock;
+    this.theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+  }
+
+  /**
+   * Take a token from the bucket.
+   * @return 0 if the call has been accepted, otherwise the milliseconds until the bucket holds a token again.
+   */
+  long tryAcquire() {
+    long now = clock.millis() * NANOS_PER_MILLI;
+
+    while (true) {
+      long arrival = theoreticalArrival.get();
+      long next = Math.max(arrival, now);
+
+      long waitNanos = next - toleranceNanos - now;
+      if (waitNanos > 0) return (waitNanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI;
+
+      if (theoreticalArrival.compareAndSet(arrival, next + intervalNanos)) return 0;
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import java.lang.reflect.AnnotatedElement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hold the {@link RateLimiter} of every interface or method whose rate is limited,
+ * so all the calls to it take their tokens from the same bucket. There is one per built instance,
+ * resolved from its registry, so instances built separately do not share their buckets.
+ */
+final class RateLimiters {
+  private final ConcurrentMap<AnnotatedElement, RateLimiter> limiters;
+
+  RateLimiters() {
+    this.limiters = new ConcurrentHashMap<>();
+  }
+
+  RateLimiter from(AnnotatedElement scope, int callsPerSecond, int burst, MockeryClock clock) {
+    RateLimiter limiter = limiters.get(scope);
+    if (limiter != null) return limiter;
+
+    limiter = new RateLimiter(callsPerSecond, burst, clock);
+    RateLimiter previous = limiters.putIfAbsent(scope, limiter);
+    return previous != null ? previous : limiter;
+  }
+
+}
@@ -18,49 +18,41 @@ package io.victoralbertos.mockery.internal.built_in_interceptor;
 
 import io.victoralbertos.mockery.api.Interceptor;
 import io.victoralbertos.mockery.api.Metadata;
-import io.victoralbertos.mockery.api.built_in_interceptor.ErrorResponseAdapter;
 import io.victoralbertos.mockery.api.built_in_interceptor.Retrofit;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.concurrent.TimeUnit;
-import okhttp3.MediaType;
-import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Response;
-import retrofit2.mock.Calls;
-import retrofit2.mock.NetworkBehavior;
 
 public class RetrofitInterceptor implements Interceptor.Behaviour<Retrofit> {
-  private final CallAdapter callAdapter;
+  private final NetworkSimulation<Retrofit> networkSimulation;
 
   public RetrofitInterceptor() {
-    this.callAdapter = new CallAdapter(new retrofit2.Retrofit.Builder()
+    this.networkSimulation = new NetworkSimulation<>(new retrofit2.Retrofit.Builder()
         .baseUrl("http://mockery.com")
-        .build());
+        .build(),
+        new NetworkSimulation.Attributes<Retrofit>() {
+          @Override public NetworkSettings from(Retrofit retrofit) {
+            return new NetworkSettings(retrofit.delay(), retrofit.failurePercent(), retrofit.variancePercentage(),
+                retrofit.bytesPerSecond(), retrofit.maxConcurrentCalls(),
+                retrofit.maxQueuedCalls(), retrofit.queueOrder(), retrofit.rateLimit(),
+                retrofit.rateLimitBurst(), retrofit.executorProvider(),
+                retrofit.latencyModel(), retrofit.failureModel(),
+                retrofit.errorResponseAdapter());
+          }
+        });
   }
 
   @Override public Call onLegalMock(Object mock, Metadata<Retrofit> metadata) {
     checkReturnMethodTypeIsCall(metadata);
     checkTypeMockIsNotCall(metadata, mock);
-
-    NetworkBehavior networkBehavior = networkBehaviour(metadata);
-    return callAdapter.adapt(metadata.getMethod(),
-        networkBehavior, Calls.response(mock));
+    return networkSimulation.legal(mock, metadata);
   }
 
   @Override public Call onIllegalMock(AssertionError assertionError, Metadata<Retrofit> metadata) {
     checkReturnMethodTypeIsCall(metadata);
-
-    String errorMessage = assertionError.getMessage() != null ? assertionError.getMessage() : "";
-    String safeErrorMessage = adaptErrorResponse(errorMessage, metadata);
-    ResponseBody responseBody = ResponseBody
-        .create(MediaType.parse("application/json"), safeErrorMessage);
-
-    NetworkBehavior networkBehavior = networkBehaviour(metadata);
-    return callAdapter.adapt(metadata.getMethod(),
-        networkBehavior, Calls.response(Response.error(404, responseBody)));
+    return networkSimulation.illegal(assertionError, metadata);
   }
 
   @Override public void validate(Object candidate, Metadata<Retrofit> metadata) throws AssertionError {
@@ -121,29 +113,4 @@ public class RetrofitInterceptor implements Interceptor.Behaviour<Retrofit> {
     }
   }
 
-  private NetworkBehavior networkBehaviour(Metadata<Retrofit> metadata) {
-    Retrofit retrofit = metadata.getAnnotation();
-
-    NetworkBehavior networkBehavior = NetworkBehavior.create();
-    networkBehavior.setDelay(retrofit.delay(), TimeUnit.MILLISECONDS);
-    networkBehavior.setVariancePercent(retrofit.variancePercentage());
-    networkBehavior.setFailurePercent(retrofit.failurePercent());
-
-    return networkBehavior;
-  }
-
-  private String adaptErrorResponse(String error, Metadata<Retrofit> metadata) {
-    Retrofit retrofit = metadata.getAnnotation();
-
-    try {
-      Constructor<? extends ErrorResponseAdapter> constructor = retrofit.errorResponseAdapter()
-          .getDeclaredConstructor();
-      constructor.setAccessible(true);
-      ErrorResponseAdapter errorResponseAdapter = constructor.newInstance();
-      return errorResponseAdapter.adapt(error);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
-  }
-
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.ExecutorProvider;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default implementation of {@link ExecutorProvider}. It supplies one bounded pool of daemon threads shared by
+ * every mocked interface. Idle threads are released after a minute, and once all of them are busy
+ * the calls wait in a queue for a free one. A blocking {@code execute()} takes its response on the calling thread,
+ * so a callback running on the pool may execute another call without waiting for a free thread.
+ */
+public final class SharedExecutorProvider implements ExecutorProvider {
+  static final int MAX_THREADS = 64;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override public ExecutorService executor() {
+    return Holder.EXECUTOR;
+  }
+
+  private static final class Holder {
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    private static ExecutorService newExecutor() {
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS,
+          60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "Mockery-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+
+}
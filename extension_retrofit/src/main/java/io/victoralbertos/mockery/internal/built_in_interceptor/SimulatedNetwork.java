@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.FailureModel;
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import retrofit2.mock.NetworkBehavior;
+
+/**
+ * The network conditions simulated for a mocked call: the failures are decided by the {@link FailureModel},
+ * the delays by the {@link LatencyModel} plus the time it takes to transfer the body of the response,
+ * and the rate limit and queueing on the server by the {@link RateLimiter} and the {@link ConcurrencyLimiter}, if any.
+ */
+final class SimulatedNetwork {
+  private final NetworkBehavior behavior;
+  private final LatencyModel latencyModel;
+  private final FailureModel failureModel;
+  private final Random random;
+  private final long transferMillis;
+  private final ConcurrencyLimiter limiter;
+  private final RateLimiter rateLimiter;
+
+  SimulatedNetwork(NetworkBehavior behavior, LatencyModel latencyModel, FailureModel failureModel, Random random,
+      long transferMillis, ConcurrencyLimiter limiter, RateLimiter rateLimiter) {
+    this.behavior = behavior;
+    this.latencyModel = latencyModel;
+    this.failureModel = failureModel;
+    this.random = random;
+    this.transferMillis = transferMillis;
+    this.limiter = limiter;
+    this.rateLimiter = rateLimiter;
+  }
+
+  boolean calculateIsFailure() {
+    return failureModel.isFailure(behavior.failurePercent(), random);
+  }
+
+  Throwable failureException() {
+    return behavior.failureException();
+  }
+
+  long calculateDelayMillis() {
+    return latencyModel.delayMillis(behavior.delay(TimeUnit.MILLISECONDS),
+        behavior.variancePercent(), random) + transferMillis;
+  }
+
+  /**
+   * The slots of the server shared by the call, or null if its concurrency is not limited.
+   */
+  ConcurrencyLimiter limiter() {
+    return limiter;
+  }
+
+  /**
+   * The token bucket shared by the call, or null if its rate is not limited.
+   */
+  RateLimiter rateLimiter() {
+    return rateLimiter;
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Source;
+
+/**
+ * A {@link Source} which delivers the bytes of its delegate at a given rate, in chunks of a tenth of a second,
+ * as a slow link would do. The pauses between chunks are awaited on the {@link MockeryClock}, so reading
+ * under a virtual clock takes no real time.
+ */
+final class ThrottledSource extends ForwardingSource {
+  private static final long CHUNK_MILLIS = 100;
+  private final long bytesPerSecond;
+  private final MockeryClock clock;
+
+  /**
+   * @param bytesPerSecond the rate at which the bytes are delivered. It must be a positive value.
+   */
+  ThrottledSource(Source delegate, long bytesPerSecond, MockeryClock clock) {
+    super(delegate);
+    if (bytesPerSecond <= 0) throw new IllegalArgumentException("Bytes per second must be a positive value");
+    this.bytesPerSecond = bytesPerSecond;
+    this.clock = clock;
+  }
+
+  @Override public long read(Buffer sink, long byteCount) throws IOException {
+    long chunk = Math.max(1, bytesPerSecond * CHUNK_MILLIS / 1000);
+    long read = super.read(sink, Math.min(byteCount, chunk));
+    if (read > 0) await(read * 1000 / bytesPerSecond);
+    return read;
+  }
+
+  private void await(long millis) throws InterruptedIOException {
+    if (millis <= 0) return;
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    clock.schedule(new Runnable() {
+      @Override public void run() {
+        latch.countDown();
+      }
+    }, millis);
+
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted");
+    }
+  }
+
+}
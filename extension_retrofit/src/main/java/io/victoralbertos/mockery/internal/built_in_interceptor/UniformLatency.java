@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import java.util.Random;
+
+/**
+ * Default implementation of {@link LatencyModel}. The delay varies uniformly by plus-or-minus the variance
+ * percentage, as the {@code NetworkBehavior} of retrofit-mock does.
+ */
+public final class UniformLatency implements LatencyModel {
+
+  @Override public long delayMillis(long delay, int variancePercentage, Random random) {
+    float variance = variancePercentage / 100f;
+    float lowerBound = 1f - variance;
+    float delayPercent = lowerBound + random.nextFloat() * 2 * variance;
+    return (long) (delay * delayPercent);
+  }
+
+}
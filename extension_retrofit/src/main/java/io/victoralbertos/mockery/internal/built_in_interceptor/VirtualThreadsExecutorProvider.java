@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.ExecutorProvider;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An implementation of {@link ExecutorProvider} which runs every call on its own virtual thread, for those
+ * runtimes which support them. Otherwise it falls back to {@link SharedExecutorProvider}.
+ */
+public final class VirtualThreadsExecutorProvider implements ExecutorProvider {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override public ExecutorService executor() {
+    return Holder.EXECUTOR;
+  }
+
+  private static final class Holder {
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    private static ExecutorService newExecutor() {
+      try {
+        Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        return (ExecutorService) method.invoke(null);
+      } catch (Exception e) {
+        return new SharedExecutorProvider().executor();
+      }
+    }
+  }
+
+}
@@ -18,9 +18,10 @@ package io.victoralbertos.mockery.internal.built_in_mockery;
 
 import io.victoralbertos.mockery.api.Metadata;
 import io.victoralbertos.mockery.api.Mockery;
-import io.victoralbertos.mockery.api.built_in_mockery.DTOJson;
 import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import io.victoralbertos.mockery.api.built_in_mockery.DTOJson;
 import io.victoralbertos.mockery.api.built_in_mockery.RequestBodyDTO;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -89,6 +90,7 @@ public final class RequestBodyDTOMockery implements Mockery.Behaviour<RequestBod
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
@@ -110,7 +112,8 @@ public final class RequestBodyDTOMockery implements Mockery.Behaviour<RequestBod
       }
     };
 
-    return new Metadata<>(metadata.getMockingClass(),
-        metadata.getMethod(), metadata.getArgs(), dto, metadata.getType());
+    return MetadataAccess.metadata(metadata.getMockingClass(),
+        metadata.getMethod(), metadata.getArgs(), dto, metadata.getType(),
+        MetadataAccess.registryOf(metadata));
   }
 }
@@ -21,6 +21,7 @@ import io.victoralbertos.mockery.api.Mockery;
 import io.victoralbertos.mockery.api.built_in_mockery.DTOArgs;
 import io.victoralbertos.mockery.api.built_in_mockery.RequestBodyValid;
 import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -85,6 +86,7 @@ public final class RequestBodyValidMockery implements Mockery.Behaviour<RequestB
   /**
    * {@inheritDoc}
    */
+  @SuppressWarnings("deprecation")
   @Override public boolean isOptional() {
     return false;
   }
@@ -115,7 +117,8 @@ public final class RequestBodyValidMockery implements Mockery.Behaviour<RequestB
 
     };
 
-    return new Metadata<>(metadata.getMockingClass(),
-        metadata.getMethod(), metadata.getArgs(), dto, metadata.getType());
+    return MetadataAccess.metadata(metadata.getMockingClass(),
+        metadata.getMethod(), metadata.getArgs(), dto, metadata.getType(),
+        MetadataAccess.registryOf(metadata));
   }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Retrofit;
+import retrofit2.mock.Calls;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public final class CallAdapterTest {
+  private AtomicInteger lookups;
+  private CallAdapter callAdapterUT;
+
+  @Before public void init() {
+    lookups = new AtomicInteger();
+
+    Retrofit retrofit = new Retrofit.Builder()
+        .baseUrl("http://localhost/")
+        .addCallAdapterFactory(new CountingFactory())
+        .build();
+
+    callAdapterUT = new CallAdapter(retrofit);
+  }
+
+  @Test public void When_Adapt_Many_Calls_Of_Same_Method_Then_Look_Up_Factory_Once() throws Exception {
+    Method method = Api.class.getMethod("user");
+
+    for (int i = 0; i < 10; i++) {
+      Call<String> call = callAdapterUT.adapt(method, Calls.response("user"));
+      assertThat(call.execute().body(), is("user"));
+    }
+
+    assertThat(lookups.get(), is(1));
+  }
+
+  @Test public void When_Adapt_Calls_Of_Different_Methods_Then_Look_Up_Factory_Once_Per_Method()
+      throws NoSuchMethodException {
+    Method user = Api.class.getMethod("user");
+    Method users = Api.class.getMethod("users");
+
+    for (int i = 0; i < 10; i++) {
+      callAdapterUT.adapt(user, Calls.response("user"));
+      callAdapterUT.adapt(users, Calls.response("users"));
+    }
+
+    assertThat(lookups.get(), is(2));
+  }
+
+  private interface Api {
+    Call<String> user();
+
+    Call<String> users();
+  }
+
+  private class CountingFactory extends retrofit2.CallAdapter.Factory {
+    @Override public retrofit2.CallAdapter<?> get(final Type returnType, Annotation[] annotations,
+        Retrofit retrofit) {
+      lookups.incrementAndGet();
+
+      return new retrofit2.CallAdapter<Call<?>>() {
+        @Override public Type responseType() {
+          return getParameterUpperBound(0, (ParameterizedType) returnType);
+        }
+
+        @Override public <R> Call<?> adapt(Call<R> call) {
+          return call;
+        }
+      };
+    }
+  }
+
+}
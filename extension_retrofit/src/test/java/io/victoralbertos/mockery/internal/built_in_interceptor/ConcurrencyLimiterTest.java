@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.QueueOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConcurrencyLimiterTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Slots_Are_Busy_Then_Queue_Calls_In_Fifo_Order() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Integer.MAX_VALUE, QueueOrder.FIFO);
+    List<Integer> started = new ArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      limiter.submit(record(started, i));
+    }
+    assertThat(started, is(Arrays.asList(0)));
+    assertThat(limiter.activeCalls(), is(1));
+    assertThat(limiter.queuedCalls(), is(2));
+
+    limiter.release();
+    limiter.release();
+    assertThat(started, is(Arrays.asList(0, 1, 2)));
+    assertThat(limiter.queuedCalls(), is(0));
+    assertThat(limiter.peakQueuedCalls(), is(2));
+  }
+
+  @Test public void When_Slots_Are_Busy_Then_Queue_Calls_In_Lifo_Order() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Integer.MAX_VALUE, QueueOrder.LIFO);
+    List<Integer> started = new ArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      limiter.submit(record(started, i));
+    }
+    limiter.release();
+    limiter.release();
+
+    assertThat(started, is(Arrays.asList(0, 2, 1)));
+  }
+
+  @Test public void When_Queue_Is_Full_Then_Reject_Calls() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, QueueOrder.FIFO);
+    List<Integer> started = new ArrayList<>();
+
+    assertTrue(limiter.submit(record(started, 0)));
+    assertTrue(limiter.submit(record(started, 1)));
+    assertFalse(limiter.submit(record(started, 2)));
+
+    assertThat(limiter.rejectedCalls(), is(1L));
+    assertThat(limiter.queuedCalls(), is(1));
+  }
+
+  @Test public void When_Many_Threads_Submit_Then_Never_Exceed_Max_Concurrent_Calls() throws Exception {
+    final int maxConcurrentCalls = 4, calls = 20000;
+    final ConcurrencyLimiter limiter =
+        new ConcurrencyLimiter(maxConcurrentCalls, Integer.MAX_VALUE, QueueOrder.FIFO);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger exceeded = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(calls);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    for (int i = 0; i < calls; i++) {
+      executor.execute(new Runnable() {
+        @Override public void run() {
+          limiter.submit(new Runnable() {
+            @Override public void run() {
+              if (running.incrementAndGet() > maxConcurrentCalls) exceeded.incrementAndGet();
+              executor.execute(new Runnable() {
+                @Override public void run() {
+                  running.decrementAndGet();
+                  limiter.release();
+                  done.countDown();
+                }
+              });
+            }
+          });
+        }
+      });
+    }
+
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    executor.shutdownNow();
+
+    assertThat(exceeded.get(), is(0));
+    assertThat(limiter.activeCalls(), is(0));
+    assertThat(limiter.queuedCalls(), is(0));
+  }
+
+  @Test public void When_Max_Concurrent_Calls_Is_Not_Positive_Then_Get_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new ConcurrencyLimiter(0, 1, QueueOrder.FIFO);
+  }
+
+  private Runnable record(final List<Integer> started, final int call) {
+    return new Runnable() {
+      @Override public void run() {
+        started.add(call);
+      }
+    };
+  }
+
+}
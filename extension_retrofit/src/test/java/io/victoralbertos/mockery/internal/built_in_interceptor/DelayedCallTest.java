@@ -0,0 +1,258 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.MockeryClock;
+import io.victoralbertos.mockery.api.VirtualClock;
+import io.victoralbertos.mockery.api.built_in_interceptor.QueueOrder;
+import io.victoralbertos.mockery.internal.SystemClock;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.mock.Calls;
+import retrofit2.mock.NetworkBehavior;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DelayedCallTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+  private ExecutorService executor;
+
+  @Before public void init() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test public void When_Many_Delayed_Calls_Then_Do_Not_Hold_A_Thread_Per_Call() throws InterruptedException {
+    int calls = 1000;
+    final CountDownLatch latch = new CountDownLatch(calls);
+    final AtomicInteger responses = new AtomicInteger();
+
+    for (int i = 0; i < calls; i++) {
+      call(200, 0).enqueue(new Callback<String>() {
+        @Override public void onResponse(Call<String> call, Response<String> response) {
+          responses.incrementAndGet();
+          latch.countDown();
+        }
+
+        @Override public void onFailure(Call<String> call, Throwable t) {
+          latch.countDown();
+        }
+      });
+    }
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertThat(responses.get(), is(calls));
+  }
+
+  @Test public void When_Execute_Then_Get_Response_After_Delay() throws IOException {
+    long start = System.nanoTime();
+    Response<String> response = call(100, 0).execute();
+
+    assertThat(response.body(), is("response"));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+  }
+
+  @Test public void When_Execute_Inside_Callbacks_Then_Do_Not_Wait_For_The_Executor() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicReference<String> nested = new AtomicReference<>();
+
+    call(10, 0).enqueue(new Callback<String>() {
+      @Override public void onResponse(Call<String> call, Response<String> response) {
+        try {
+          nested.set(call(10, 0).execute().body());
+        } catch (IOException ignored) {
+        }
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<String> call, Throwable t) {
+        latch.countDown();
+      }
+    });
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertThat(nested.get(), is("response"));
+  }
+
+  @Test public void When_Failure_Then_Get_Failure_Exception() throws IOException {
+    exception.expect(IOException.class);
+    call(0, 100).execute();
+  }
+
+  @Test public void When_Cancel_Pending_Call_Then_Notify_Canceled() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Call<String> call = call(10000, 0);
+    call.enqueue(new Callback<String>() {
+      @Override public void onResponse(Call<String> call, Response<String> response) {
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<String> call, Throwable t) {
+        failure.set(t);
+        latch.countDown();
+      }
+    });
+    call.cancel();
+
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+    assertTrue(call.isCanceled());
+    assertThat(failure.get().getMessage(), is("canceled"));
+  }
+
+  @Test public void When_Execute_Twice_Then_Throw_Exception() throws IOException {
+    Call<String> call = call(0, 0);
+    call.execute();
+
+    exception.expect(IllegalStateException.class);
+    call.execute();
+  }
+
+  @Test public void When_Clone_Then_Execute_Again() throws IOException {
+    Call<String> call = call(0, 0);
+    call.execute();
+
+    assertThat(call.clone().execute().body(), is("response"));
+  }
+
+  @Test public void When_Virtual_Clock_Then_Respond_Only_After_Advancing() throws InterruptedException {
+    VirtualClock clock = VirtualClock.manual();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    call(2500, 0, clock).enqueue(new Callback<String>() {
+      @Override public void onResponse(Call<String> call, Response<String> response) {
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<String> call, Throwable t) {}
+    });
+
+    clock.advanceBy(2499, TimeUnit.MILLISECONDS);
+    assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+
+    clock.advanceBy(1, TimeUnit.MILLISECONDS);
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test public void When_Auto_Advancing_Clock_Then_Execute_Without_Waiting() throws IOException {
+    long start = System.nanoTime();
+    Response<String> response = call(TimeUnit.HOURS.toMillis(1), 0, VirtualClock.autoAdvancing())
+        .execute();
+
+    assertThat(response.body(), is("response"));
+    assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+  }
+
+  @Test public void When_Server_Slots_Are_Busy_Then_Wait_For_A_Free_One() throws InterruptedException {
+    VirtualClock clock = VirtualClock.manual();
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Integer.MAX_VALUE, QueueOrder.FIFO);
+    final CountDownLatch first = new CountDownLatch(1);
+    final CountDownLatch second = new CountDownLatch(1);
+
+    call(100, 0, clock, limiter).enqueue(countDownOnResponse(first));
+    call(100, 0, clock, limiter).enqueue(countDownOnResponse(second));
+    assertThat(limiter.queuedCalls(), is(1));
+
+    clock.advanceBy(100, TimeUnit.MILLISECONDS);
+    assertTrue(first.await(1, TimeUnit.SECONDS));
+    assertFalse(second.await(100, TimeUnit.MILLISECONDS));
+
+    clock.advanceBy(100, TimeUnit.MILLISECONDS);
+    assertTrue(second.await(1, TimeUnit.SECONDS));
+    assertThat(limiter.activeCalls(), is(0));
+  }
+
+  @Test public void When_Server_Queue_Is_Full_Then_Get_503() throws IOException {
+    VirtualClock clock = VirtualClock.manual();
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 0, QueueOrder.FIFO);
+
+    call(100, 0, clock, limiter).enqueue(countDownOnResponse(new CountDownLatch(1)));
+    Response<String> response = call(100, 0, clock, limiter).execute();
+
+    assertThat(response.code(), is(503));
+    assertThat(limiter.rejectedCalls(), is(1L));
+  }
+
+  @Test public void When_Rate_Limit_Is_Exceeded_Then_Get_429_With_Retry_After() throws IOException {
+    VirtualClock clock = VirtualClock.manual();
+    RateLimiter rateLimiter = new RateLimiter(1, 1, clock);
+
+    assertThat(call(0, 0, clock, null, rateLimiter).execute().code(), is(200));
+
+    Response<String> response = call(0, 0, clock, null, rateLimiter).execute();
+    assertThat(response.code(), is(429));
+    assertThat(response.headers().get("Retry-After"), is("1"));
+
+    clock.advanceBy(1, TimeUnit.SECONDS);
+    assertThat(call(0, 0, clock, null, rateLimiter).execute().code(), is(200));
+  }
+
+  private Callback<String> countDownOnResponse(final CountDownLatch latch) {
+    return new Callback<String>() {
+      @Override public void onResponse(Call<String> call, Response<String> response) {
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<String> call, Throwable t) {}
+    };
+  }
+
+  private Call<String> call(long delay, int failurePercent) {
+    return call(delay, failurePercent, SystemClock.INSTANCE);
+  }
+
+  private Call<String> call(long delay, int failurePercent, MockeryClock clock) {
+    return call(delay, failurePercent, clock, null);
+  }
+
+  private Call<String> call(long delay, int failurePercent, MockeryClock clock, ConcurrencyLimiter limiter) {
+    return call(delay, failurePercent, clock, limiter, null);
+  }
+
+  private Call<String> call(long delay, int failurePercent, MockeryClock clock, ConcurrencyLimiter limiter,
+      RateLimiter rateLimiter) {
+    NetworkBehavior behavior = NetworkBehavior.create();
+    behavior.setDelay(delay, TimeUnit.MILLISECONDS);
+    behavior.setVariancePercent(0);
+    behavior.setFailurePercent(failurePercent);
+    SimulatedNetwork network = new SimulatedNetwork(behavior, new UniformLatency(), new IndependentFailures(),
+        new Random(), 0, limiter, rateLimiter);
+    return new DelayedCall<>(network, executor, clock, Calls.response("response"));
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public final class ErrorCodesTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Single_Code_Then_Always_Get_It() {
+    ErrorCodes errorCodes = new ErrorCodes(new int[] {500}, new int[0]);
+    Random random = new Random(1);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(errorCodes.next(random), is(500));
+    }
+  }
+
+  @Test public void When_Weighted_Codes_Then_Draw_Them_By_Weight() {
+    ErrorCodes errorCodes = new ErrorCodes(new int[] {500, 503, 429}, new int[] {6, 3, 1});
+    Random random = new Random(1);
+
+    int calls = 100000, serverErrors = 0, unavailable = 0, tooManyRequests = 0;
+    for (int i = 0; i < calls; i++) {
+      int code = errorCodes.next(random);
+      if (code == 500) serverErrors++;
+      if (code == 503) unavailable++;
+      if (code == 429) tooManyRequests++;
+    }
+
+    assertEquals(0.6, serverErrors / (double) calls, 0.01);
+    assertEquals(0.3, unavailable / (double) calls, 0.01);
+    assertEquals(0.1, tooManyRequests / (double) calls, 0.01);
+  }
+
+  @Test public void When_Code_Is_Not_An_Error_Then_Throw_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new ErrorCodes(new int[] {200}, new int[0]);
+  }
+
+  @Test public void When_Weights_Do_Not_Match_Codes_Then_Throw_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new ErrorCodes(new int[] {500, 503}, new int[] {1});
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.Stateful;
+import io.victoralbertos.mockery.api.built_in_interceptor.ErrorResponseAdapter;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public final class GetErrorBodyTest {
+  private GetErrorBody getErrorBody;
+
+  @Before public void init() {
+    getErrorBody = new GetErrorBody();
+  }
+
+  @Test public void When_Same_Message_Then_Adapt_It_Only_Once() throws IOException {
+    CountingAdapter adapter = new CountingAdapter();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(getErrorBody.from(adapter, new AssertionError("BOOM!")).string(), is("{'message':'BOOM!'}"));
+    }
+    assertThat(getErrorBody.from(adapter, new AssertionError()).string(), is("{'message':''}"));
+
+    assertThat(adapter.adaptations.get(), is(2));
+  }
+
+  @Test public void When_Stateful_Adapter_Then_Adapt_Every_Time() throws IOException {
+    StatefulAdapter adapter = new StatefulAdapter();
+
+    for (int i = 0; i < 3; i++) {
+      getErrorBody.from(adapter, new AssertionError("BOOM!")).string();
+    }
+
+    assertThat(adapter.adaptations.get(), is(3));
+  }
+
+  private static class CountingAdapter implements ErrorResponseAdapter {
+    final AtomicInteger adaptations = new AtomicInteger();
+
+    @Override public String adapt(String error) {
+      adaptations.incrementAndGet();
+      return String.format("{'message':'%s'}", error);
+    }
+  }
+
+  @Stateful
+  private static class StatefulAdapter extends CountingAdapter {}
+
+}
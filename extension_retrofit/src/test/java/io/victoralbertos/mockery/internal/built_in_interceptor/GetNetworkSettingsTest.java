@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.jolyglot.GsonSpeaker;
+import io.victoralbertos.mockery.api.JsonConverter;
+import io.victoralbertos.mockery.api.built_in_interceptor.ConcurrencyMonitor;
+import io.victoralbertos.mockery.api.built_in_interceptor.NetworkBehaviour;
+import io.victoralbertos.mockery.api.built_in_interceptor.QueueOrder;
+import io.victoralbertos.mockery.internal.BehaviourRegistry;
+import java.lang.reflect.Method;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+public final class GetNetworkSettingsTest {
+  private static final NetworkSettings INTERFACE_SETTINGS =
+      new NetworkSettings(2000, 3, 40, 0, 0, Integer.MAX_VALUE, QueueOrder.FIFO, 0, 0);
+  private static final NetworkSettings LIMITED_INTERFACE_SETTINGS =
+      new NetworkSettings(2000, 3, 40, 0, 4, Integer.MAX_VALUE, QueueOrder.FIFO, 0, 0);
+  private static final NetworkSettings RATE_LIMITED_INTERFACE_SETTINGS =
+      new NetworkSettings(2000, 3, 40, 0, 0, Integer.MAX_VALUE, QueueOrder.FIFO, 10, 0);
+  private static final NetworkSettings THROTTLED_INTERFACE_SETTINGS =
+      new NetworkSettings(2000, 3, 40, 10, 0, Integer.MAX_VALUE, QueueOrder.FIFO, 0, 0);
+  @Rule public final ExpectedException exception = ExpectedException.none();
+  private GetNetworkSettings getNetworkSettings;
+  private BehaviourRegistry registry;
+
+  @Before public void init() {
+    getNetworkSettings = new GetNetworkSettings();
+    registry = new BehaviourRegistry();
+  }
+
+  @Test public void When_Method_Not_Annotated_Then_Get_Interface_Settings() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("plain");
+    NetworkSettings settings = getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS);
+
+    assertThat(settings.delay, is(2000L));
+    assertThat(settings.failurePercent, is(3));
+    assertThat(settings.variancePercentage, is(40));
+    assertNull(settings.limiter);
+  }
+
+  @Test public void When_Method_Annotated_Then_Override_Only_Set_Attributes() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("slow");
+    NetworkSettings settings = getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS);
+
+    assertThat(settings.delay, is(8000L));
+    assertThat(settings.failurePercent, is(3));
+    assertThat(settings.variancePercentage, is(0));
+  }
+
+  @Test public void When_Resolve_Same_Method_Twice_Then_Get_Cached_Settings() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("slow");
+    NetworkSettings settings = getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS);
+
+    assertSame(settings, getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS));
+    assertSame(settings, getNetworkSettings.cached(method));
+  }
+
+  @Test public void When_Interface_Limits_Concurrency_Then_Methods_Share_Its_Slots() throws NoSuchMethodException {
+    NetworkSettings plain = getNetworkSettings.from(registry, LimitedProviders.class,
+        LimitedProviders.class.getDeclaredMethod("plain"), LIMITED_INTERFACE_SETTINGS);
+    NetworkSettings slow = getNetworkSettings.from(registry, LimitedProviders.class,
+        LimitedProviders.class.getDeclaredMethod("slow"), LIMITED_INTERFACE_SETTINGS);
+    NetworkSettings exclusive = getNetworkSettings.from(registry, LimitedProviders.class,
+        LimitedProviders.class.getDeclaredMethod("exclusive"), LIMITED_INTERFACE_SETTINGS);
+
+    assertSame(plain.limiter, slow.limiter);
+    assertSame(plain.limiter, registry.from(ConcurrencyMonitor.class).metrics(LimitedProviders.class));
+    assertNotSame(plain.limiter, exclusive.limiter);
+    assertThat(exclusive.maxConcurrentCalls, is(1));
+  }
+
+  @Test public void When_Registries_Differ_Then_Limiters_Are_Not_Shared() throws NoSuchMethodException {
+    Method method = LimitedProviders.class.getDeclaredMethod("plain");
+    NetworkSettings first = getNetworkSettings.from(registry, LimitedProviders.class,
+        method, LIMITED_INTERFACE_SETTINGS);
+    NetworkSettings second = new GetNetworkSettings().from(new BehaviourRegistry(), LimitedProviders.class,
+        method, LIMITED_INTERFACE_SETTINGS);
+
+    assertNotSame(first.limiter, second.limiter);
+  }
+
+  @Test public void When_Interface_Limits_Rate_Then_Methods_Share_Its_Bucket() throws NoSuchMethodException {
+    NetworkSettings plain = getNetworkSettings.from(registry, RateLimitedProviders.class,
+        RateLimitedProviders.class.getDeclaredMethod("plain"), RATE_LIMITED_INTERFACE_SETTINGS);
+    NetworkSettings slow = getNetworkSettings.from(registry, RateLimitedProviders.class,
+        RateLimitedProviders.class.getDeclaredMethod("slow"), RATE_LIMITED_INTERFACE_SETTINGS);
+    NetworkSettings bursty = getNetworkSettings.from(registry, RateLimitedProviders.class,
+        RateLimitedProviders.class.getDeclaredMethod("bursty"), RATE_LIMITED_INTERFACE_SETTINGS);
+
+    assertSame(plain.rateLimiter, slow.rateLimiter);
+    assertNotSame(plain.rateLimiter, bursty.rateLimiter);
+    assertThat(bursty.rateLimit, is(10));
+    assertThat(bursty.rateLimitBurst, is(50));
+  }
+
+  @Test public void When_Method_Not_Annotated_Then_Get_Not_Found_Error_Code() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("plain");
+    NetworkSettings settings = getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS);
+
+    assertSame(ErrorCodes.NOT_FOUND, settings.errorCodes);
+  }
+
+  @Test public void When_Error_Codes_Are_Illegal_Then_Get_Exception() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("illegalErrorCodes");
+
+    exception.expect(RuntimeException.class);
+    exception.expectMessage("Providers#illegalErrorCodes");
+    getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS);
+  }
+
+  @Test public void When_Response_Is_Throttled_Without_Json_Converter_Then_Get_Exception()
+      throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("plain");
+
+    exception.expect(RuntimeException.class);
+    exception.expectMessage("no @JsonConverter was found");
+    getNetworkSettings.from(registry, Providers.class, method, THROTTLED_INTERFACE_SETTINGS);
+  }
+
+  @Test public void When_Response_Is_Throttled_Then_Get_Its_Json_Size() throws NoSuchMethodException {
+    Method method = JsonProviders.class.getDeclaredMethod("plain");
+    NetworkSettings settings = getNetworkSettings.from(registry, JsonProviders.class, method,
+        THROTTLED_INTERFACE_SETTINGS);
+
+    assertThat(settings.jsonSize.of("mock"), is(6L));
+  }
+
+  @Test public void When_Response_Is_Not_Throttled_Then_Get_No_Json_Size() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("plain");
+    NetworkSettings settings = getNetworkSettings.from(registry, Providers.class, method, INTERFACE_SETTINGS);
+
+    assertNull(settings.jsonSize);
+  }
+
+  private interface Providers {
+    void plain();
+
+    @NetworkBehaviour(delay = 8000, variancePercentage = 0)
+    void slow();
+
+    @NetworkBehaviour(errorCodes = {500, 503}, errorCodeWeights = 1)
+    void illegalErrorCodes();
+  }
+
+  private interface LimitedProviders {
+    void plain();
+
+    @NetworkBehaviour(delay = 8000)
+    void slow();
+
+    @NetworkBehaviour(maxConcurrentCalls = 1)
+    void exclusive();
+  }
+
+  private interface RateLimitedProviders {
+    void plain();
+
+    @NetworkBehaviour(delay = 8000)
+    void slow();
+
+    @NetworkBehaviour(rateLimitBurst = 50)
+    void bursty();
+  }
+
+  @JsonConverter(GsonSpeaker.class)
+  private interface JsonProviders {
+    void plain();
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.built_in_interceptor.FailureModel;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class GilbertElliottFailuresTest {
+  private static final int CALLS = 200000;
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Derived_Recovery_Then_Keep_Failure_Percent_In_Bursts() {
+    Runs runs = runs(new GilbertElliottFailures(10), 20);
+
+    assertEquals(0.2, runs.failureRatio(), 0.02);
+    assertEquals(10, runs.meanBurstLength(), 1);
+  }
+
+  @Test public void When_Fixed_Recovery_Then_Ignore_Failure_Percent() {
+    Runs runs = runs(GilbertElliottFailures.of(5, 45), 0);
+
+    assertEquals(0.1, runs.failureRatio(), 0.01);
+    assertEquals(5, runs.meanBurstLength(), 0.5);
+  }
+
+  @Test public void When_Independent_Failures_Then_Bursts_Are_Short() {
+    Runs runs = runs(new IndependentFailures(), 20);
+
+    assertEquals(0.2, runs.failureRatio(), 0.01);
+    assertEquals(1.25, runs.meanBurstLength(), 0.05);
+  }
+
+  @Test public void When_No_Failure_Percent_Then_Never_Fail() {
+    FailureModel failureModel = new GilbertElliottFailures();
+    Random random = new Random(1);
+
+    for (int i = 0; i < 1000; i++) {
+      assertFalse(failureModel.isFailure(0, random));
+    }
+  }
+
+  @Test public void When_All_Calls_Fail_Then_Always_Fail() {
+    FailureModel failureModel = new GilbertElliottFailures(1);
+    Random random = new Random(1);
+
+    failureModel.isFailure(100, random);
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(failureModel.isFailure(100, random));
+    }
+  }
+
+  @Test public void When_Burst_Length_Below_One_Then_Throw_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new GilbertElliottFailures(0.5);
+  }
+
+  private Runs runs(FailureModel failureModel, int failurePercent) {
+    Random random = new Random(1);
+    Runs runs = new Runs();
+
+    for (int i = 0; i < CALLS; i++) {
+      runs.record(failureModel.isFailure(failurePercent, random));
+    }
+    return runs;
+  }
+
+  private static final class Runs {
+    private int failures, bursts;
+    private boolean previous;
+
+    void record(boolean failure) {
+      if (failure) failures++;
+      if (failure && !previous) bursts++;
+      previous = failure;
+    }
+
+    double failureRatio() {
+      return failures / (double) CALLS;
+    }
+
+    double meanBurstLength() {
+      return failures / (double) bursts;
+    }
+  }
+
+}
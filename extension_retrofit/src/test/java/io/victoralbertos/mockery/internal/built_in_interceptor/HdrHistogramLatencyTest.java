@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static io.victoralbertos.mockery.internal.built_in_interceptor.PercentileLatencyTest.randomAt;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public final class HdrHistogramLatencyTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Replay_Plain_Distribution_Then_Scale_Values_To_Millis() {
+    HdrHistogramLatency latency = new HdrHistogramLatency("latencies/plain.hgrm", 1000);
+
+    assertThat(latency.delayMillis(0, 0, randomAt(0)), is(1L));
+    assertThat(latency.delayMillis(0, 0, randomAt(0.5)), is(2L));
+    assertThat(latency.delayMillis(0, 0, randomAt(0.95)), is(7L));
+  }
+
+  @Test public void When_Replay_Csv_Distribution_Then_Get_Same_Delays() {
+    HdrHistogramLatency latency = new HdrHistogramLatency("latencies/csv.hgrm", 1);
+
+    assertThat(latency.delayMillis(0, 0, randomAt(0)), is(1L));
+    assertThat(latency.delayMillis(0, 0, randomAt(0.5)), is(2L));
+    assertThat(latency.delayMillis(0, 0, randomAt(0.95)), is(7L));
+  }
+
+  @Test public void When_Resource_Not_Found_Then_Get_Exception() {
+    exception.expect(RuntimeException.class);
+    new HdrHistogramLatency("latencies/none.hgrm", 1);
+  }
+
+}
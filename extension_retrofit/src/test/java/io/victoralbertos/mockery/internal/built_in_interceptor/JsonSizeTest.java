@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.jolyglot.GsonSpeaker;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public final class JsonSizeTest {
+  private AtomicInteger serializations;
+  private JsonSize jsonSizeUT;
+
+  @Before public void init() {
+    serializations = new AtomicInteger();
+    jsonSizeUT = new JsonSize(new GsonSpeaker() {
+      @Override public String toJson(Object src) {
+        serializations.incrementAndGet();
+        return super.toJson(src);
+      }
+    });
+  }
+
+  @Test public void When_Measure_Bodies_Of_Same_Class_Then_Serialize_Only_The_First() {
+    for (int i = 0; i < 10; i++) {
+      assertThat(jsonSizeUT.of(new Mock("mock")), is(16L));
+    }
+
+    assertThat(serializations.get(), is(1));
+  }
+
+  @Test public void When_Measure_Bodies_Of_Different_Classes_Then_Serialize_Every_Class() {
+    assertThat(jsonSizeUT.of(new Mock("mock")), is(16L));
+    assertThat(jsonSizeUT.of(Arrays.asList(1, 2)), is(5L));
+
+    assertThat(serializations.get(), is(2));
+  }
+
+  @Test public void When_Body_Is_Null_Then_Get_No_Bytes() {
+    assertThat(jsonSizeUT.of(null), is(0L));
+    assertThat(serializations.get(), is(0));
+  }
+
+  private static class Mock {
+    private final String value;
+
+    Mock(String value) {
+      this.value = value;
+    }
+  }
+
+}
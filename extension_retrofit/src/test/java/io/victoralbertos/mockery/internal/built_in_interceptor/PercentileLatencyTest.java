@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PercentileLatencyTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Sample_Then_Interpolate_Between_Percentiles() {
+    PercentileLatency latency = new PercentileLatency(new double[] {0, 50, 100},
+        new long[] {100, 200, 1000});
+
+    assertThat(latency.delayMillis(0, 0, randomAt(0.25)), is(150L));
+    assertThat(latency.delayMillis(0, 0, randomAt(0.5)), is(200L));
+    assertThat(latency.delayMillis(0, 0, randomAt(0.75)), is(600L));
+  }
+
+  @Test public void When_Sample_Below_First_Percentile_Then_Get_First_Delay() {
+    PercentileLatency latency = new PercentileLatency(new double[] {50, 100},
+        new long[] {100, 200});
+
+    assertThat(latency.delayMillis(0, 0, randomAt(0.1)), is(100L));
+  }
+
+  @Test public void When_Sample_Many_Then_Follow_Percentiles() {
+    PercentileLatency latency = new PercentileLatency(new double[] {50, 99, 100},
+        new long[] {100, 200, 5000});
+    Random random = new Random(1);
+
+    int samples = 100000, aboveMedian = 0, aboveP99 = 0;
+    for (int i = 0; i < samples; i++) {
+      long delay = latency.delayMillis(0, 0, random);
+      if (delay > 100) aboveMedian++;
+      if (delay > 200) aboveP99++;
+    }
+
+    assertTrue(Math.abs(aboveMedian - samples * 0.5) < samples * 0.01);
+    assertTrue(Math.abs(aboveP99 - samples * 0.01) < samples * 0.002);
+  }
+
+  @Test public void When_Last_Percentile_Is_Not_100_Then_Get_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new PercentileLatency(new double[] {50, 99}, new long[] {100, 200});
+  }
+
+  @Test public void When_Delays_Are_Not_Ascending_Then_Get_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new PercentileLatency(new double[] {50, 100}, new long[] {200, 100});
+  }
+
+  @Test public void When_Lengths_Differ_Then_Get_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new PercentileLatency(new double[] {50, 100}, new long[] {100});
+  }
+
+  static Random randomAt(final double value) {
+    return new Random() {
+      @Override public double nextDouble() {
+        return value;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.VirtualClock;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public final class RateLimiterTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Burst_Is_Spent_Then_Reject_Until_Refilled() {
+    VirtualClock clock = VirtualClock.manual();
+    RateLimiter limiter = new RateLimiter(2, 3, clock);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(limiter.tryAcquire(), is(0L));
+    }
+    assertThat(limiter.tryAcquire(), is(500L));
+
+    clock.advanceBy(499, TimeUnit.MILLISECONDS);
+    assertThat(limiter.tryAcquire(), is(1L));
+
+    clock.advanceBy(1, TimeUnit.MILLISECONDS);
+    assertThat(limiter.tryAcquire(), is(0L));
+    assertThat(limiter.tryAcquire(), is(500L));
+  }
+
+  @Test public void When_Quiet_Then_Refill_Up_To_Burst_Only() {
+    VirtualClock clock = VirtualClock.manual();
+    RateLimiter limiter = new RateLimiter(10, 2, clock);
+
+    clock.advanceBy(1, TimeUnit.HOURS);
+
+    assertThat(limiter.tryAcquire(), is(0L));
+    assertThat(limiter.tryAcquire(), is(0L));
+    assertThat(limiter.tryAcquire(), is(100L));
+  }
+
+  @Test public void When_Rate_Is_Above_A_Million_Then_Still_Limit_It() {
+    VirtualClock clock = VirtualClock.manual();
+    RateLimiter limiter = new RateLimiter(2000000, 2, clock);
+
+    assertThat(limiter.tryAcquire(), is(0L));
+    assertThat(limiter.tryAcquire(), is(0L));
+    assertThat(limiter.tryAcquire(), is(1L));
+
+    clock.advanceBy(1, TimeUnit.MILLISECONDS);
+    assertThat(limiter.tryAcquire(), is(0L));
+  }
+
+  @Test public void When_Rate_Is_Above_One_Per_Nanosecond_Then_Throw_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new RateLimiter(Integer.MAX_VALUE, 1, VirtualClock.manual());
+  }
+
+  @Test public void When_Rate_Is_Not_Positive_Then_Throw_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new RateLimiter(0, 1, VirtualClock.manual());
+  }
+
+}
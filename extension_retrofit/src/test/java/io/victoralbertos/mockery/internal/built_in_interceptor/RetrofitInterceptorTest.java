@@ -16,17 +16,34 @@
 
 package io.victoralbertos.mockery.internal.built_in_interceptor;
 
+import io.victoralbertos.jolyglot.GsonSpeaker;
 import io.victoralbertos.jolyglot.Types;
+import io.victoralbertos.mockery.api.JsonConverter;
 import io.victoralbertos.mockery.api.Metadata;
+import io.victoralbertos.mockery.api.MockeryClock;
+import io.victoralbertos.mockery.api.VirtualClock;
+import io.victoralbertos.mockery.api.built_in_interceptor.ExecutorProvider;
+import io.victoralbertos.mockery.api.built_in_interceptor.LatencyModel;
+import io.victoralbertos.mockery.api.built_in_interceptor.NetworkBehaviour;
 import io.victoralbertos.mockery.api.built_in_interceptor.Retrofit;
+import io.victoralbertos.mockery.api.built_in_mockery.DTO;
+import io.victoralbertos.mockery.api.built_in_mockery.RequestBodyDTO;
+import io.victoralbertos.mockery.internal.BehaviourRegistry;
+import io.victoralbertos.mockery.internal.MetadataAccess;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import okhttp3.MediaType;
+import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import org.junit.Before;
 import org.junit.Rule;
@@ -284,6 +301,163 @@ public final class RetrofitInterceptorTest {
     long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     assert tookMs >= 100;
   }
+
+  @Test public void When_Call_OnLegalMock_Async_With_Executor_Provider_Then_Run_On_Its_Executor()
+      throws Exception {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    Method method = Providers.class.getDeclaredMethod("call");
+    Retrofit annotation = PlaceholderRetrofitExecutorAnnotation.class.getAnnotation(Retrofit.class);
+    Metadata<Retrofit> metadata = new Metadata(Providers.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    Call<Mock> call = retrofitInterceptor.onLegalMock(new Mock(), metadata);
+    call.enqueue(new Callback<Mock>() {
+      @Override public void onResponse(Call<Mock> call,
+          Response<Mock> response) {
+        threadName.set(Thread.currentThread().getName());
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<Mock> call, Throwable t) {
+        t.printStackTrace();
+      }
+    });
+
+    assertTrue(latch.await(10, SECONDS));
+    assertThat(threadName.get(), is(CustomExecutorProvider.THREAD_NAME));
+  }
+
+  @Test public void When_Call_OnLegalMock_Async_Without_Delay_Nor_Failures_Then_Respond_On_Calling_Thread()
+      throws Exception {
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+
+    Call<Mock> call = retrofitInterceptor.onLegalMock(new Mock(), metadataRetrofit());
+    call.enqueue(new Callback<Mock>() {
+      @Override public void onResponse(Call<Mock> call,
+          Response<Mock> response) {
+        thread.set(Thread.currentThread());
+      }
+
+      @Override public void onFailure(Call<Mock> call, Throwable t) {
+        t.printStackTrace();
+      }
+    });
+
+    assertThat(thread.get(), is(Thread.currentThread()));
+  }
+
+  @Test public void When_Call_With_Latency_Model_Then_Delay_As_It_Decides() throws Exception {
+    Method method = Providers.class.getDeclaredMethod("call");
+    Retrofit annotation = PlaceholderRetrofitLatencyAnnotation.class.getAnnotation(Retrofit.class);
+    Metadata<Retrofit> metadata = new Metadata(Providers.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    long startNanos = System.nanoTime();
+    Call<Mock> call = retrofitInterceptor.onLegalMock(new Mock(), metadata);
+    assertTrue(call.execute().isSuccessful());
+
+    long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    assertTrue(tookMs < 10000);
+    assertThat(InstantLatency.requestedDelay.get(), is(10000L));
+  }
+
+  @Test public void When_Method_Overrides_Network_Behaviour_Then_Use_It_Instead_Of_The_Interface_One()
+      throws Exception {
+    Method method = Providers.class.getDeclaredMethod("instantCall");
+    Retrofit annotation = PlaceholderRetrofitSlowAnnotation.class.getAnnotation(Retrofit.class);
+    Metadata<Retrofit> metadata = new Metadata(Providers.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    final AtomicReference<Response<Mock>> responseMock = new AtomicReference<>();
+    Call<Mock> call = retrofitInterceptor.onLegalMock(new Mock(), metadata);
+    call.enqueue(new Callback<Mock>() {
+      @Override public void onResponse(Call<Mock> call,
+          Response<Mock> response) {
+        responseMock.set(response);
+      }
+
+      @Override public void onFailure(Call<Mock> call, Throwable t) {
+        t.printStackTrace();
+      }
+    });
+
+    assertTrue(responseMock.get().isSuccessful());
+  }
+
+  @Test public void When_Method_Sets_Error_Codes_Then_Respond_With_Them() throws Exception {
+    Method method = Providers.class.getDeclaredMethod("unavailableCall");
+    Retrofit annotation = PlaceholderRetrofitAnnotation.class.getAnnotation(Retrofit.class);
+    Metadata<Retrofit> metadata = new Metadata(Providers.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    Call<Mock> call = retrofitInterceptor.onIllegalMock(new AssertionError("BOOM!"), metadata);
+    Response<Mock> response = call.execute();
+
+    assertThat(response.code(), is(503));
+    assertThat(response.errorBody().string(), is("BOOM!"));
+  }
+
+  @Test public void When_Throttle_Without_Json_Converter_Then_Get_Exception() throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("call");
+    Retrofit annotation = PlaceholderRetrofitThrottledAnnotation.class.getAnnotation(Retrofit.class);
+    Metadata<Retrofit> metadata = new Metadata(Providers.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    exception.expect(RuntimeException.class);
+    retrofitInterceptor.onLegalMock(new Mock(), metadata);
+  }
+
+  @Test public void When_Throttle_Then_Delay_By_The_Transfer_Of_The_Json() throws Exception {
+    Method method = JsonProviders.class.getDeclaredMethod("call");
+    Retrofit annotation = PlaceholderRetrofitThrottledAnnotation.class.getAnnotation(Retrofit.class);
+    Metadata<Retrofit> metadata = new Metadata(JsonProviders.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    long startNanos = System.nanoTime();
+    Call<Mock> call = retrofitInterceptor.onLegalMock(new Mock(), metadata);
+    assertTrue(call.execute().isSuccessful());
+
+    // {} takes 2 bytes, transferred at 10 bytes per second.
+    long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    assertTrue(tookMs >= 200);
+  }
+
+  @Test public void When_Upload_Is_Throttled_Then_Delay_By_The_Transfer_Of_The_Request_Body_On_The_Clock()
+      throws Exception {
+    Method method = Providers.class.getDeclaredMethod("upload", RequestBody.class);
+    Retrofit annotation = PlaceholderRetrofitAnnotation.class.getAnnotation(Retrofit.class);
+    VirtualClock clock = VirtualClock.manual();
+    BehaviourRegistry registry = new BehaviourRegistry();
+    registry.register(MockeryClock.class, clock);
+    Object[] args = {RequestBody.create(MediaType.parse("text/plain"), "{}")};
+    Metadata<Retrofit> metadata = MetadataAccess.metadata(Providers.class,
+        method, args, annotation, method.getGenericReturnType(), registry);
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    Call<Mock> call = retrofitInterceptor.onLegalMock(new Mock(), metadata);
+    call.enqueue(new Callback<Mock>() {
+      @Override public void onResponse(Call<Mock> call, Response<Mock> response) {
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<Mock> call, Throwable t) {}
+    });
+
+    // {} takes 2 bytes, uploaded at 10 bytes per second.
+    clock.advanceBy(199, TimeUnit.MILLISECONDS);
+    assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+
+    clock.advanceBy(1, TimeUnit.MILLISECONDS);
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test public void When_Call_Shared_Executor_Provider_Then_Get_Same_Executor() {
+    ExecutorService executor = new SharedExecutorProvider().executor();
+    assertThat(new SharedExecutorProvider().executor(), is(executor));
+  }
+
   private Metadata<Retrofit> metadataRetrofit() {
     try {
       Method method = Providers.class.getDeclaredMethod("call");
@@ -316,6 +490,14 @@ public final class RetrofitInterceptorTest {
     Call callNotParameterized();
 
     Call<List<Mock>> callWithListParameterized();
+
+    @NetworkBehaviour(delay = 0, failurePercent = 0)
+    Call<Mock> instantCall();
+
+    @NetworkBehaviour(errorCodes = 503)
+    Call<Mock> unavailableCall();
+
+    Call<Mock> upload(@RequestBodyDTO(value = DTO.Behaviour.class, bytesPerSecond = 10) RequestBody body);
   }
 
   @Retrofit(delay = 0, failurePercent = 0)
@@ -323,4 +505,43 @@ public final class RetrofitInterceptorTest {
 
   @Retrofit(delay = 100, failurePercent = 0, variancePercentage = 0)
   private interface PlaceholderRetrofit100DelayAnnotation {}
+
+  @Retrofit(delay = 0, failurePercent = 0, executorProvider = CustomExecutorProvider.class)
+  private interface PlaceholderRetrofitExecutorAnnotation {}
+
+  @Retrofit(delay = 0, failurePercent = 0, bytesPerSecond = 10)
+  private interface PlaceholderRetrofitThrottledAnnotation {}
+
+  @JsonConverter(GsonSpeaker.class)
+  private interface JsonProviders {
+    Call<Mock> call();
+  }
+
+  @Retrofit(delay = 10000, failurePercent = 100)
+  private interface PlaceholderRetrofitSlowAnnotation {}
+
+  @Retrofit(delay = 10000, failurePercent = 0, latencyModel = InstantLatency.class)
+  private interface PlaceholderRetrofitLatencyAnnotation {}
+
+  private static class InstantLatency implements LatencyModel {
+    private static final AtomicLong requestedDelay = new AtomicLong();
+
+    @Override public long delayMillis(long delay, int variancePercentage, Random random) {
+      requestedDelay.set(delay);
+      return 0;
+    }
+  }
+
+  private static class CustomExecutorProvider implements ExecutorProvider {
+    private static final String THREAD_NAME = "custom";
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        return new Thread(runnable, THREAD_NAME);
+      }
+    });
+
+    @Override public ExecutorService executor() {
+      return executor;
+    }
+  }
 }
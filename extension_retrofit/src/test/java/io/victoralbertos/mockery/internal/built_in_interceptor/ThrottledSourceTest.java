@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import io.victoralbertos.mockery.api.VirtualClock;
+import java.util.concurrent.TimeUnit;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ThrottledSourceTest {
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Test public void When_Read_Then_Take_The_Time_Of_The_Bandwidth() throws Exception {
+    VirtualClock clock = VirtualClock.autoAdvancing();
+    Buffer payload = new Buffer().writeUtf8(repeat('a', 1000));
+
+    long startNanos = System.nanoTime();
+    long startMillis = clock.millis();
+    BufferedSource source = Okio.buffer(new ThrottledSource(payload, 100, clock));
+
+    assertThat(source.readUtf8(), is(repeat('a', 1000)));
+    assertThat(clock.millis() - startMillis, is(10000L));
+    assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos) < 5);
+  }
+
+  @Test public void When_Bandwidth_Is_Not_Positive_Then_Get_Exception() {
+    exception.expect(IllegalArgumentException.class);
+    new ThrottledSource(new Buffer(), 0, VirtualClock.manual());
+  }
+
+  private String repeat(char c, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+
+}
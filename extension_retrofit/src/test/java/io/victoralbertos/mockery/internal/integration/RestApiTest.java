@@ -17,6 +17,10 @@
 package io.victoralbertos.mockery.internal.integration;
 
 import io.victoralbertos.mockery.api.Mockery;
+import io.victoralbertos.mockery.api.VirtualClock;
+import io.victoralbertos.mockery.api.built_in_interceptor.Retrofit;
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import io.victoralbertos.mockery.internal.built_in_interceptor.PercentileLatency;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -32,6 +36,8 @@ import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
 
+import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.INT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
@@ -365,4 +371,71 @@ public final class RestApiTest {
     assertThat(integer, is(30));
   }
 
+  @Test public void clockIsNotSharedBetweenBuilds() throws Exception {
+    VirtualClock manual = VirtualClock.manual();
+    DelayedRestApi manualApi = new Mockery.Builder<DelayedRestApi>()
+        .mock(DelayedRestApi.class)
+        .clock(manual)
+        .build();
+    DelayedRestApi autoAdvancingApi = new Mockery.Builder<DelayedRestApi>()
+        .mock(DelayedRestApi.class)
+        .clock(VirtualClock.autoAdvancing())
+        .build();
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    manualApi.integer().enqueue(new Callback<Integer>() {
+      @Override public void onResponse(Call<Integer> call, Response<Integer> response) {
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<Integer> call, Throwable t) {
+        t.printStackTrace();
+      }
+    });
+
+    assertThat(autoAdvancingApi.integer().execute().body(), is(30));
+    assertFalse(latch.await(100, MILLISECONDS));
+
+    manual.advanceBy(1, SECONDS);
+    assertTrue(latch.await(10, SECONDS));
+  }
+
+  @Test public void latencyModelSuppliedToTheBuilder() throws Exception {
+    VirtualClock manual = VirtualClock.manual();
+    TabledRestApi tabledApi = new Mockery.Builder<TabledRestApi>()
+        .mock(TabledRestApi.class)
+        .clock(manual)
+        .behaviour(PercentileLatency.class, PercentileLatency.of(new double[] {100}, new long[] {500}))
+        .build();
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    tabledApi.integer().enqueue(new Callback<Integer>() {
+      @Override public void onResponse(Call<Integer> call, Response<Integer> response) {
+        latch.countDown();
+      }
+
+      @Override public void onFailure(Call<Integer> call, Throwable t) {
+        t.printStackTrace();
+      }
+    });
+
+    manual.advanceBy(400, MILLISECONDS);
+    assertFalse(latch.await(100, MILLISECONDS));
+
+    manual.advanceBy(100, MILLISECONDS);
+    assertTrue(latch.await(10, SECONDS));
+  }
+
+  @Retrofit(delay = 10000, failurePercent = 0, latencyModel = PercentileLatency.class)
+  interface TabledRestApi {
+    @Valid(value = INT, legal = "30")
+    Call<Integer> integer();
+  }
+
+  @Retrofit(delay = 1000, failurePercent = 0, variancePercentage = 0)
+  interface DelayedRestApi {
+    @Valid(value = INT, legal = "30")
+    Call<Integer> integer();
+  }
+
 }
@@ -21,50 +21,42 @@ import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import io.victoralbertos.mockery.api.Interceptor;
 import io.victoralbertos.mockery.api.Metadata;
-import io.victoralbertos.mockery.api.built_in_interceptor.ErrorResponseAdapter;
 import io.victoralbertos.mockery.api.built_in_interceptor.Rx2Retrofit;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.concurrent.TimeUnit;
-import okhttp3.MediaType;
-import okhttp3.ResponseBody;
 import retrofit2.Response;
 import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
-import retrofit2.mock.Calls;
-import retrofit2.mock.NetworkBehavior;
 
 public final class Rx2RetrofitInterceptor implements Interceptor.Behaviour<Rx2Retrofit> {
-  private final CallAdapter callAdapter;
+  private final NetworkSimulation<Rx2Retrofit> networkSimulation;
 
   public Rx2RetrofitInterceptor() {
-    this.callAdapter = new CallAdapter(new retrofit2.Retrofit.Builder()
+    this.networkSimulation = new NetworkSimulation<>(new retrofit2.Retrofit.Builder()
         .baseUrl("http://mockery.com")
-        .addCallAdapterFactory(RxJava2CallAdapterFactory.create())
-        .build());
+        .addCallAdapterFactory(RxJava2CallAdapterFactory.createAsync())
+        .build(),
+        new NetworkSimulation.Attributes<Rx2Retrofit>() {
+          @Override public NetworkSettings from(Rx2Retrofit rx2Retrofit) {
+            return new NetworkSettings(rx2Retrofit.delay(), rx2Retrofit.failurePercent(),
+                rx2Retrofit.variancePercentage(), rx2Retrofit.bytesPerSecond(),
+                rx2Retrofit.maxConcurrentCalls(), rx2Retrofit.maxQueuedCalls(),
+                rx2Retrofit.queueOrder(), rx2Retrofit.rateLimit(),
+                rx2Retrofit.rateLimitBurst(), rx2Retrofit.executorProvider(),
+                rx2Retrofit.latencyModel(), rx2Retrofit.failureModel(),
+                rx2Retrofit.errorResponseAdapter());
+          }
+        });
   }
 
   @Override public Object onLegalMock(final Object mock, final Metadata<Rx2Retrofit> metadata) {
     checkReturnMethodTypeIsSingleOrCompletable(metadata);
     checkTypeMockIsNotSingleNeitherResponse(metadata, mock);
-
-    NetworkBehavior networkBehavior = networkBehaviour(metadata);
-    return callAdapter.adapt(metadata.getMethod(),
-        networkBehavior, Calls.response(mock));
+    return networkSimulation.legal(mock, metadata);
   }
 
   @Override public Object onIllegalMock(final AssertionError assertionError, final Metadata<Rx2Retrofit> metadata) {
     checkReturnMethodTypeIsSingleOrCompletable(metadata);
-
-    final String errorMessage = assertionError.getMessage() != null ? assertionError.getMessage() : "";
-    final String adaptedErrorMessage = adaptErrorResponse(errorMessage, metadata);
-    NetworkBehavior networkBehavior = networkBehaviour(metadata);
-
-    final ResponseBody responseBody = ResponseBody
-        .create(MediaType.parse("application/json"), adaptedErrorMessage);
-
-    return callAdapter.adapt(metadata.getMethod(),
-        networkBehavior, Calls.response(Response.error(404, responseBody)));
+    return networkSimulation.illegal(assertionError, metadata);
   }
 
   @Override public void validate(Object candidate, Metadata<Rx2Retrofit> metadata) throws AssertionError {
@@ -166,29 +158,4 @@ public final class Rx2RetrofitInterceptor implements Interceptor.Behaviour<Rx2Re
     return false;
   }
 
-  private String adaptErrorResponse(String error, Metadata<Rx2Retrofit> metadata) {
-    Rx2Retrofit rx2Retrofit = metadata.getAnnotation();
-
-    try {
-      Constructor<? extends ErrorResponseAdapter> constructor = rx2Retrofit.errorResponseAdapter()
-          .getDeclaredConstructor();
-      constructor.setAccessible(true);
-      ErrorResponseAdapter errorResponseAdapter = constructor.newInstance();
-      return errorResponseAdapter.adapt(error);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  private NetworkBehavior networkBehaviour(Metadata<Rx2Retrofit> metadata) {
-    Rx2Retrofit retrofit = metadata.getAnnotation();
-
-    NetworkBehavior networkBehavior = NetworkBehavior.create();
-    networkBehavior.setDelay(retrofit.delay(), TimeUnit.MILLISECONDS);
-    networkBehavior.setVariancePercent(retrofit.variancePercentage());
-    networkBehavior.setFailurePercent(retrofit.failurePercent());
-
-    return networkBehavior;
-  }
-
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal.built_in_interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.adapter.rxjava.HttpException;
+import rx.Observable;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Adapts the calls to {@link Observable} through {@link Call#enqueue(Callback)}, so a subscription awaits the
+ * simulated delay without blocking its thread, as the factory of adapter-rxjava 2.1.0 executes the call on the
+ * subscribing thread. Only {@code Observable<T>} and {@code Observable<Response<T>>} are adapted, any other
+ * return type is left to the next factory.
+ */
+final class AsyncRxJavaCallAdapterFactory extends retrofit2.CallAdapter.Factory {
+
+  static AsyncRxJavaCallAdapterFactory create() {
+    return new AsyncRxJavaCallAdapterFactory();
+  }
+
+  private AsyncRxJavaCallAdapterFactory() {}
+
+  @Override public retrofit2.CallAdapter<?> get(Type returnType, Annotation[] annotations,
+      retrofit2.Retrofit retrofit) {
+    if (getRawType(returnType) != Observable.class || !(returnType instanceof ParameterizedType)) return null;
+
+    Type observableType = getParameterUpperBound(0, (ParameterizedType) returnType);
+    if (getRawType(observableType) != Response.class) return new Adapter(observableType, false);
+    if (!(observableType instanceof ParameterizedType)) return null;
+
+    Type responseType = getParameterUpperBound(0, (ParameterizedType) observableType);
+    return new Adapter(responseType, true);
+  }
+
+  private static final class Adapter implements retrofit2.CallAdapter<Observable<?>> {
+    private final Type responseType;
+    private final boolean wrapped;
+
+    Adapter(Type responseType, boolean wrapped) {
+      this.responseType = responseType;
+      this.wrapped = wrapped;
+    }
+
+    @Override public Type responseType() {
+      return responseType;
+    }
+
+    @Override public <R> Observable<?> adapt(final Call<R> call) {
+      return Observable.create(new Observable.OnSubscribe<Object>() {
+        @Override public void call(final Subscriber<? super Object> subscriber) {
+          final Call<R> clone = call.clone();
+          subscriber.add(Subscriptions.create(new Action0() {
+            @Override public void call() {
+              clone.cancel();
+            }
+          }));
+
+          clone.enqueue(new Callback<R>() {
+            @Override public void onResponse(Call<R> call, Response<R> response) {
+              if (subscriber.isUnsubscribed()) return;
+
+              if (wrapped) {
+                subscriber.onNext(response);
+              } else if (response.isSuccessful()) {
+                subscriber.onNext(response.body());
+              } else {
+                subscriber.onError(new HttpException(response));
+                return;
+              }
+              subscriber.onCompleted();
+            }
+
+            @Override public void onFailure(Call<R> call, Throwable t) {
+              if (subscriber.isUnsubscribed()) return;
+              subscriber.onError(t);
+            }
+          });
+        }
+      });
+    }
+  }
+
+}
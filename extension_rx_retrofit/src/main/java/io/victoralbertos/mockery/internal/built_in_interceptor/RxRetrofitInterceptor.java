@@ -18,52 +18,44 @@ package io.victoralbertos.mockery.internal.built_in_interceptor;
 
 import io.victoralbertos.mockery.api.Interceptor;
 import io.victoralbertos.mockery.api.Metadata;
-import io.victoralbertos.mockery.api.built_in_interceptor.ErrorResponseAdapter;
 import io.victoralbertos.mockery.api.built_in_interceptor.RxRetrofit;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.concurrent.TimeUnit;
-import okhttp3.MediaType;
-import okhttp3.ResponseBody;
 import retrofit2.Response;
 import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
-import retrofit2.mock.Calls;
-import retrofit2.mock.NetworkBehavior;
 import rx.Observable;
 import rx.observers.TestSubscriber;
 
 public final class RxRetrofitInterceptor implements Interceptor.Behaviour<RxRetrofit> {
-  private final CallAdapter callAdapter;
+  private final NetworkSimulation<RxRetrofit> networkSimulation;
 
   public RxRetrofitInterceptor() {
-    this.callAdapter = new CallAdapter(new retrofit2.Retrofit.Builder()
+    this.networkSimulation = new NetworkSimulation<>(new retrofit2.Retrofit.Builder()
         .baseUrl("http://mockery.com")
+        .addCallAdapterFactory(AsyncRxJavaCallAdapterFactory.create())
         .addCallAdapterFactory(RxJavaCallAdapterFactory.create())
-        .build());
+        .build(),
+        new NetworkSimulation.Attributes<RxRetrofit>() {
+          @Override public NetworkSettings from(RxRetrofit rxRetrofit) {
+            return new NetworkSettings(rxRetrofit.delay(), rxRetrofit.failurePercent(),
+                rxRetrofit.variancePercentage(), rxRetrofit.bytesPerSecond(),
+                rxRetrofit.maxConcurrentCalls(), rxRetrofit.maxQueuedCalls(),
+                rxRetrofit.queueOrder(), rxRetrofit.rateLimit(), rxRetrofit.rateLimitBurst(),
+                rxRetrofit.executorProvider(), rxRetrofit.latencyModel(),
+                rxRetrofit.failureModel(), rxRetrofit.errorResponseAdapter());
+          }
+        });
   }
 
   @Override public Observable onLegalMock(final Object mock, final Metadata<RxRetrofit> metadata) {
     checkReturnMethodTypeIsObservable(metadata);
     checkTypeMockIsNotObservableNeitherResponse(metadata, mock);
-
-    NetworkBehavior networkBehavior = networkBehaviour(metadata);
-    return callAdapter.adapt(metadata.getMethod(),
-        networkBehavior, Calls.response(mock));
+    return networkSimulation.legal(mock, metadata);
   }
 
   @Override public Observable onIllegalMock(final AssertionError assertionError, final Metadata<RxRetrofit> metadata) {
     checkReturnMethodTypeIsObservable(metadata);
-
-    final String errorMessage = assertionError.getMessage() != null ? assertionError.getMessage() : "";
-    final String adaptedErrorMessage = adaptErrorResponse(errorMessage, metadata);
-    NetworkBehavior networkBehavior = networkBehaviour(metadata);
-
-    final ResponseBody responseBody = ResponseBody
-        .create(MediaType.parse("application/json"), adaptedErrorMessage);
-
-    return callAdapter.adapt(metadata.getMethod(),
-        networkBehavior, Calls.response(Response.error(404, responseBody)));
+    return networkSimulation.illegal(assertionError, metadata);
   }
 
   @Override public void validate(Object candidate, Metadata<RxRetrofit> metadata) throws AssertionError {
@@ -149,29 +141,4 @@ public final class RxRetrofitInterceptor implements Interceptor.Behaviour<RxRetr
     return false;
   }
 
-  private String adaptErrorResponse(String error, Metadata<RxRetrofit> metadata) {
-    RxRetrofit rxRetrofit = metadata.getAnnotation();
-
-    try {
-      Constructor<? extends ErrorResponseAdapter> constructor = rxRetrofit.errorResponseAdapter()
-          .getDeclaredConstructor();
-      constructor.setAccessible(true);
-      ErrorResponseAdapter errorResponseAdapter = constructor.newInstance();
-      return errorResponseAdapter.adapt(error);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  private NetworkBehavior networkBehaviour(Metadata<RxRetrofit> metadata) {
-    RxRetrofit retrofit = metadata.getAnnotation();
-
-    NetworkBehavior networkBehavior = NetworkBehavior.create();
-    networkBehavior.setDelay(retrofit.delay(), TimeUnit.MILLISECONDS);
-    networkBehavior.setVariancePercent(retrofit.variancePercentage());
-    networkBehavior.setFailurePercent(retrofit.failurePercent());
-
-    return networkBehavior;
-  }
-
 }
@@ -191,6 +191,23 @@ public final class RxRetrofitInterceptorTest {
     checkDelay(observable, 100);
   }
 
+  @Test public void When_Subscribe_With_Delay_Then_Do_Not_Block_The_Subscribing_Thread()
+      throws NoSuchMethodException {
+    Method method = Providers.class.getDeclaredMethod("observable");
+    RxRetrofit annotation = PlaceholderRetrofitDelayedAnnotation.class.getAnnotation(RxRetrofit.class);
+    Metadata<RxRetrofit> metadata = new Metadata(Providers.class,
+        method, null, annotation, method.getGenericReturnType());
+
+    Observable observable = rxRetrofitInterceptor.onLegalMock(new Mock(), metadata);
+    TestSubscriber subscriber = new TestSubscriber();
+    observable.subscribe(subscriber);
+    assertThat(subscriber.getOnNextEvents().size(), is(0));
+
+    subscriber.awaitTerminalEvent();
+    subscriber.assertNoErrors();
+    subscriber.assertValueCount(1);
+  }
+
   @Test public void When_Call_OnIllegalMock_With_Delay_Then_Delay() throws NoSuchMethodException {
     Method method = Providers.class.getDeclaredMethod("observable");
     RxRetrofit annotation = PlaceholderRetrofitDelayedAnnotation.class.getAnnotation(RxRetrofit.class);
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import io.victoralbertos.mockery.internal.TestClass.Method;
+import io.victoralbertos.mockery.internal.TestClass.Method.Param;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generate the implementation of a mocked interface, picked up by {@code Mockery.Builder} instead of
+ * a dynamic proxy. Every method keeps its {@link MockeryMethod} in a field, so a call is dispatched to it
+ * without any reflection nor lookup. The builder supplies the {@link BehaviourRegistry} of the instance
+ * to its constructor.
+ */
+final class BrewImplementationFile {
+  private static final String REGISTRY = "registry";
+
+  JavaFile from(TestClass testClass) {
+    ClassName className = testClass.className;
+
+    MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(BehaviourRegistry.class, REGISTRY);
+
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(generatedName(className, GetMockeryImplementation.SUFFIX))
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        .addSuperinterface(className)
+        .addOriginatingElement(testClass.element)
+        .addAnnotation(AnnotationSpec.builder(Generated.class)
+            .addMember("value", "$S", MockeryProcessor.class.getCanonicalName())
+            .addMember("comments", "$S", CMessages.codeGenerateWarning())
+            .build())
+        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+            .addMember("value", "$S", "unchecked")
+            .build());
+
+    for (Method method : testClass.allMethods) {
+      typeSpec.addField(FieldSpec.builder(MockeryMethod.class, method.name)
+          .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+          .build());
+      constructor.addStatement("this.$L = $L", method.name, lookup(className, method));
+      typeSpec.addMethod(method(method));
+    }
+
+    return JavaFile.builder(className.packageName(), typeSpec.addMethod(constructor.build()).build())
+        .build();
+  }
+
+  /**
+   * Join the names of the enclosing classes by {@code _$}, as {@link GetMockeryImplementation} expects.
+   */
+  static String generatedName(ClassName className, String suffix) {
+    StringBuilder name = new StringBuilder();
+
+    for (String simpleName : className.simpleNames()) {
+      if (name.length() != 0) name.append("_$");
+      name.append(simpleName);
+    }
+
+    return name.append(suffix).toString();
+  }
+
+  private CodeBlock lookup(ClassName className, Method method) {
+    CodeBlock.Builder lookup = CodeBlock.builder()
+        .add("$T.of($L, $T.class, $S", MockeryMethod.class, REGISTRY, className, method.name);
+
+    for (Param param : method.params) {
+      lookup.add(", $T.class", param.erasedType);
+    }
+
+    return lookup.add(")").build();
+  }
+
+  private MethodSpec method(Method method) {
+    MethodSpec.Builder builder = MethodSpec.methodBuilder(method.name)
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(method.returnType);
+
+    List<String> names = new ArrayList<>();
+    for (Param param : method.params) {
+      builder.addParameter(ParameterSpec.builder(param.type, param.name).build());
+      names.add(param.name);
+    }
+
+    String args = method.params.isEmpty() ? "null" : "new Object[] {" + join(names) + "}";
+
+    if (method.returnType.equals(TypeName.VOID)) {
+      builder.addStatement("this.$L.invoke($L)", method.name, args);
+    } else {
+      builder.addStatement("return ($T) this.$L.invoke($L)", method.returnType, method.name, args);
+    }
+
+    return builder.build();
+  }
+
+  private String join(List<String> names) {
+    StringBuilder joined = new StringBuilder();
+
+    for (String name : names) {
+      if (joined.length() != 0) joined.append(", ");
+      joined.append(name);
+    }
+
+    return joined.toString();
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import io.victoralbertos.mockery.internal.TestClass.Annotated;
+import io.victoralbertos.mockery.internal.TestClass.Method;
+import io.victoralbertos.mockery.internal.TestClass.Method.Param;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generate the {@link MockeryIndex} of a mocked interface, so the runtime knows which annotations to read from it
+ * without scanning every one of them looking for the ones annotated with {@code Interceptor} or {@code Mockery}.
+ */
+final class BrewIndexFile {
+
+  JavaFile from(TestClass testClass) {
+    ClassName className = testClass.className;
+
+    MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+        .addModifiers(Modifier.PUBLIC)
+        .addStatement("super($L)", entry("interceptor", testClass.interceptors));
+
+    for (Method method : testClass.allMethods) {
+      CodeBlock.Builder statement = CodeBlock.builder()
+          .add("method($S, $L", method.name, entry("mockery", method.mockeries));
+
+      for (Param param : method.params) {
+        String factory = !param.mockeries.isEmpty() && CheckMockeries.checksTypeOf(param.mockeries.get(0))
+            ? "checkedMockery" : "mockery";
+        statement.add(", $L", entry(factory, param.mockeries));
+      }
+
+      constructor.addStatement("$L)", statement.build());
+    }
+
+    TypeSpec typeSpec = TypeSpec.classBuilder(
+        BrewImplementationFile.generatedName(className, MockeryIndex.SUFFIX))
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        .superclass(MockeryIndex.class)
+        .addOriginatingElement(testClass.element)
+        .addAnnotation(AnnotationSpec.builder(Generated.class)
+            .addMember("value", "$S", MockeryProcessor.class.getCanonicalName())
+            .addMember("comments", "$S", CMessages.codeGenerateWarning())
+            .build())
+        .addMethod(constructor.build())
+        .build();
+
+    return JavaFile.builder(className.packageName(), typeSpec)
+        .build();
+  }
+
+  private CodeBlock entry(String factory, List<Annotated> annotated) {
+    if (annotated.isEmpty()) return CodeBlock.builder().add("NONE").build();
+
+    Annotated entry = annotated.get(0);
+    return CodeBlock.builder()
+        .add("$L($T.class, $T.class)", factory, entry.annotation, entry.behaviour)
+        .build();
+  }
+
+}
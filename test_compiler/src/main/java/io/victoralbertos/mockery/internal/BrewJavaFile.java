@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Generated;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 import org.junit.Rule;
 import org.junit.Test;
@@ -49,7 +50,7 @@ final class BrewJavaFile {
           .addAll(methods(testClass.className, method, i));
     }
 
-    TypeSpec typeSpec = classTest(testClass.className, methodSpecs);
+    TypeSpec typeSpec = classTest(testClass.className, testClass.element, methodSpecs);
 
     return JavaFile.builder(testClass.className.packageName(), typeSpec)
         .build();
@@ -177,7 +178,7 @@ final class BrewJavaFile {
     builder.addStatement("robot.validateResponse(response)");
   }
 
-  private TypeSpec classTest(ClassName className, List<MethodSpec> methodSpecs) {
+  private TypeSpec classTest(ClassName className, Element element, List<MethodSpec> methodSpecs) {
     String methodName = Introspector
         .decapitalize(className.simpleName());
 
@@ -194,6 +195,7 @@ final class BrewJavaFile {
 
     return TypeSpec.classBuilder(className.simpleName() + "Test_")
         .addModifiers(Modifier.ABSTRACT, Modifier.PUBLIC)
+        .addOriginatingElement(element)
         .addMethod(abstractMethodInstanceToTest)
         .addField(exception)
         .addAnnotation(AnnotationSpec.builder(Generated.class)
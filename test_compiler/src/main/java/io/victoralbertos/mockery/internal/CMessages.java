@@ -17,6 +17,8 @@
 package io.victoralbertos.mockery.internal;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
 
 final class CMessages {
 
@@ -44,6 +46,59 @@ final class CMessages {
     return String.format(message, className, methodName);
   }
 
+  static String invalidRegex(ClassName className, String methodName, String regex, String description) {
+    String message = "When checking method %s#%s \n"
+        + "The regex '%s' supplied to @Valid is not valid: %s.\n"
+        + "To fix it, supply a valid regex.\n";
+
+    return String.format(message, className, methodName, regex, description);
+  }
+
+  static String emptyRegex(ClassName className, String methodName, String regex) {
+    String message = "When checking method %s#%s \n"
+        + "No value matches the regex '%s' supplied to @Valid, so no legal value can be generated.\n"
+        + "To fix it, supply a regex matched by at least one value.\n";
+
+    return String.format(message, className, methodName, regex);
+  }
+
+  static String unmatchedRegex(ClassName className, String methodName, String regex, String generated) {
+    String message = "When checking method %s#%s \n"
+        + "The value '%s' generated from the regex '%s' supplied to @Valid does not match it, "
+        + "as the generator does not support every construct of java.util.regex, such as flags or boundaries.\n"
+        + "To fix it, rewrite the regex without them, or supply a legal value to @Valid.\n";
+
+    return String.format(message, className, methodName, generated, regex);
+  }
+
+  static String emptyEnumArray(ClassName className, String methodName) {
+    String message = "When checking method %s#%s \n"
+        + "An empty array was found as value for @Enum annotation.\n"
+        + "To fix it, at least one value has to be specified.\n";
+
+    return String.format(message, className, methodName);
+  }
+
+  static String notSupportedType(ClassName className, String methodName, ClassName annotation,
+      TypeName illegalType, List<TypeName> supportedTypes) {
+    String message = "When checking @%s on method %s#%s \n "
+        + "an attempt to use it with %s was found. But it is not a supported type for @%s.\n"
+        + "To fix it, use @%s with: %s.\n";
+
+    String name = annotation.simpleName();
+    return String.format(message, name, className, methodName, illegalType, name, name, supportedTypes);
+  }
+
+  static String optionalBehaviourNotDeclared(ClassName className, String methodName, String paramName,
+      ClassName annotation, ClassName behaviour) {
+    String message = "When checking param %s of method %s#%s \n"
+        + "%s returns true from isOptional(), but Mockery no longer calls it, so a failure test is generated.\n"
+        + "To fix it, declare @%s with @Mockery(value = %s.class, optional = true).\n";
+
+    return String.format(message, paramName, className, methodName, behaviour.simpleName(),
+        annotation.simpleName(), behaviour.simpleName());
+  }
+
   static String codeGenerateWarning() {
     return "Generated code from Mockery. Don't modify. Or modify. It doesn't matter.";
   }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+import io.victoralbertos.mockery.api.SupportedTypes;
+import io.victoralbertos.mockery.api.built_in_mockery.Enum;
+import io.victoralbertos.mockery.api.built_in_mockery.Valid;
+import io.victoralbertos.mockery.internal.GetTestClass.ValidationException;
+import io.victoralbertos.mockery.internal.TestClass.Annotated;
+import io.victoralbertos.mockery.internal.TestClass.Method;
+import io.victoralbertos.mockery.internal.TestClass.Method.Param;
+import io.victoralbertos.mockery.internal.built_in_mockery.RegexGenerator;
+import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.util.Elements;
+
+/**
+ * Check the mockeries whose requirements are known without running them: the regex of {@link Valid},
+ * the values of {@link Enum} and the types of the params both of them support. So a misconfigured interface
+ * fails the build instead of its first call, and the runtime does not need to check again the types of those params.
+ */
+final class CheckMockeries {
+  private static final Map<String, List<TypeName>> SUPPORTED_TYPES = supportedTypes();
+  private static final int REGEX_SAMPLES = 20;
+  private final Elements elements;
+
+  CheckMockeries(Elements elements) {
+    this.elements = elements;
+  }
+
+  void from(ClassName className, List<Method> methods) throws ValidationException {
+    for (Method method : methods) {
+      for (Annotated mockery : method.mockeries) {
+        checkValue(className, method, mockery);
+      }
+
+      for (Param param : method.params) {
+        for (Annotated mockery : param.mockeries) {
+          checkValue(className, method, mockery);
+          checkType(className, method, param, mockery);
+        }
+      }
+    }
+  }
+
+  /**
+   * If the supported types of the mockery of a param have been checked at compile time.
+   */
+  static boolean checksTypeOf(Annotated mockery) {
+    return SUPPORTED_TYPES.containsKey(mockery.annotation.toString());
+  }
+
+  private void checkValue(ClassName className, Method method, Annotated mockery) throws ValidationException {
+    String annotation = mockery.annotation.toString();
+
+    if (annotation.equals(Valid.class.getCanonicalName())) {
+      checkRegex(className, method, (String) value(mockery, "value").getValue(),
+          (String) value(mockery, "legal").getValue());
+    } else if (annotation.equals(Enum.class.getCanonicalName())) {
+      List<?> values = (List<?>) value(mockery, "value").getValue();
+
+      if (values.isEmpty()) {
+        String message = CMessages.emptyEnumArray(className, method.name);
+        throw new ValidationException(method.element, message);
+      }
+    }
+  }
+
+  /**
+   * The regex validates the candidates with {@link Pattern}, but the legal values are generated walking the
+   * automaton of {@link RegexGenerator}, whose syntax is not the same. Unless a legal value is supplied, the regex
+   * has to be understood by both, and a sample of the values generated from it has to match it.
+   */
+  private void checkRegex(ClassName className, Method method, String regex, String legal)
+      throws ValidationException {
+    Pattern pattern;
+    try {
+      pattern = Pattern.compile(regex);
+    } catch (PatternSyntaxException e) {
+      String message = CMessages.invalidRegex(className, method.name, regex, e.getDescription());
+      throw new ValidationException(method.element, message);
+    }
+
+    if (!legal.isEmpty()) return;
+
+    RegexGenerator generator;
+    try {
+      generator = new RegexGenerator(regex);
+    } catch (IllegalArgumentException e) {
+      String message = CMessages.invalidRegex(className, method.name, regex, e.getMessage());
+      throw new ValidationException(method.element, message);
+    }
+
+    if (generator.isEmpty()) {
+      String message = CMessages.emptyRegex(className, method.name, regex);
+      throw new ValidationException(method.element, message);
+    }
+
+    Random random = new Random(REGEX_SAMPLES);
+    for (int i = 0; i < REGEX_SAMPLES; i++) {
+      String generated = ValidMockery.normalize(regex, generator.generate(random));
+
+      if (!pattern.matcher(generated).matches()) {
+        String message = CMessages.unmatchedRegex(className, method.name, regex, generated);
+        throw new ValidationException(method.element, message);
+      }
+    }
+  }
+
+  private void checkType(ClassName className, Method method, Param param, Annotated mockery)
+      throws ValidationException {
+    List<TypeName> supportedTypes = SUPPORTED_TYPES.get(mockery.annotation.toString());
+    if (supportedTypes == null || supportedTypes.contains(param.type)) return;
+
+    String message = CMessages.notSupportedType(className, method.name, mockery.annotation,
+        param.type, supportedTypes);
+    throw new ValidationException(param.element, message);
+  }
+
+  private AnnotationValue value(Annotated mockery, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+        : elements.getElementValuesWithDefaults(mockery.mirror).entrySet()) {
+      if (value.getKey().getSimpleName().contentEquals(name)) return value.getValue();
+    }
+
+    return null;
+  }
+
+  private static Map<String, List<TypeName>> supportedTypes() {
+    List<TypeName> numericAndText = new ArrayList<>();
+    for (Type type : SupportedTypes.concat(SupportedTypes.NUMERIC, SupportedTypes.TEXT)) {
+      numericAndText.add(TypeName.get(type));
+    }
+
+    Map<String, List<TypeName>> supportedTypes = new HashMap<>();
+    supportedTypes.put(Valid.class.getCanonicalName(), numericAndText);
+    supportedTypes.put(Enum.class.getCanonicalName(), numericAndText);
+    return supportedTypes;
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import com.squareup.javapoet.ClassName;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.util.Trees;
+import io.victoralbertos.mockery.internal.TestClass.Annotated;
+import io.victoralbertos.mockery.internal.TestClass.Method;
+import io.victoralbertos.mockery.internal.TestClass.Method.Param;
+import java.util.List;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+
+/**
+ * Warn about the params whose mockery behaviour returns true from the deprecated {@code isOptional()}
+ * while its annotation is not declared as optional. The processor does not call it any longer, so a failure
+ * test is generated for those params. Only the behaviours compiled along with the interface can be seen,
+ * as the body of the method is read from its source.
+ */
+final class CheckOptionalBehaviours {
+  private final Elements elements;
+  private final Trees trees;
+  private final Messager messager;
+
+  CheckOptionalBehaviours(Elements elements, Trees trees, Messager messager) {
+    this.elements = elements;
+    this.trees = trees;
+    this.messager = messager;
+  }
+
+  void from(ClassName className, List<Method> methods) {
+    for (Method method : methods) {
+      for (Param param : method.params) {
+        for (Annotated mockery : param.mockeries) {
+          if (mockery.optional || !returnsTrue(isOptional(mockery.behaviour))) continue;
+
+          String message = CMessages.optionalBehaviourNotDeclared(className, method.name, param.name,
+              mockery.annotation, mockery.behaviour);
+          messager.printMessage(Diagnostic.Kind.WARNING, message, param.element, mockery.mirror);
+        }
+      }
+    }
+  }
+
+  private ExecutableElement isOptional(ClassName behaviour) {
+    TypeElement typeElement = elements.getTypeElement(behaviour.toString());
+    if (typeElement == null) return null;
+
+    for (Element member : elements.getAllMembers(typeElement)) {
+      if (member.getKind() != ElementKind.METHOD) continue;
+      if (member.getModifiers().contains(Modifier.ABSTRACT)) continue;
+
+      ExecutableElement method = (ExecutableElement) member;
+      if (method.getSimpleName().contentEquals("isOptional") && method.getParameters().isEmpty()) return method;
+    }
+
+    return null;
+  }
+
+  private boolean returnsTrue(ExecutableElement method) {
+    if (method == null) return false;
+
+    MethodTree tree = trees.getTree(method);
+    if (tree == null || tree.getBody() == null) return false;
+
+    List<? extends StatementTree> statements = tree.getBody().getStatements();
+    if (statements.size() != 1 || !(statements.get(0) instanceof ReturnTree)) return false;
+
+    ExpressionTree expression = ((ReturnTree) statements.get(0)).getExpression();
+    return expression instanceof LiteralTree && Boolean.TRUE.equals(((LiteralTree) expression).getValue());
+  }
+
+}
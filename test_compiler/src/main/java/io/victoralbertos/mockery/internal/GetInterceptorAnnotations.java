@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collect the names of the annotations annotated with {@code Interceptor} which the processor has to claim.
+ * They are listed one per line, as service files do, in every {@link #RESOURCE} reachable from the processor path,
+ * and in the {@link #OPTION} processor option, separated by commas.
+ */
+final class GetInterceptorAnnotations {
+  static final String RESOURCE = "META-INF/mockery/interceptors";
+  static final String OPTION = "mockery.interceptors";
+
+  Set<String> from(ClassLoader classLoader, String option) throws IOException {
+    Set<String> annotations = new LinkedHashSet<>();
+
+    Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+    while (resources.hasMoreElements()) {
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(resources.nextElement().openStream(), "UTF-8"))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          add(annotations, line);
+        }
+      }
+    }
+
+    if (option != null) {
+      for (String name : option.split(",")) {
+        add(annotations, name);
+      }
+    }
+
+    return annotations;
+  }
+
+  private void add(Set<String> annotations, String line) {
+    int comment = line.indexOf('#');
+    if (comment != -1) line = line.substring(0, comment);
+
+    line = line.trim();
+    if (!line.isEmpty()) annotations.add(line);
+  }
+
+}
@@ -3,28 +3,42 @@ package io.victoralbertos.mockery.internal;
 import com.google.auto.common.SuperficialValidation;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
+import com.sun.source.util.Trees;
 import com.sun.tools.javac.code.Symbol;
 import io.victoralbertos.mockery.api.Interceptor;
 import io.victoralbertos.mockery.api.Mockery;
 import io.victoralbertos.mockery.api.SkipTest;
+import io.victoralbertos.mockery.internal.TestClass.Annotated;
 import io.victoralbertos.mockery.internal.TestClass.Method;
 import io.victoralbertos.mockery.internal.TestClass.Method.Param;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.Messager;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeMirror;
 
 final class GetTestClass {
-  private final InstantiateInterface instantiateInterface;
   private final javax.lang.model.util.Types types;
+  private final javax.lang.model.util.Elements elements;
+  private final CheckMockeries checkMockeries;
+  private final CheckOptionalBehaviours checkOptionalBehaviours;
 
-  GetTestClass(javax.lang.model.util.Types types) {
-    this.instantiateInterface = new InstantiateInterface();
+  GetTestClass(javax.lang.model.util.Types types, javax.lang.model.util.Elements elements, Trees trees,
+      Messager messager) {
     this.types = types;
+    this.elements = elements;
+    this.checkMockeries = new CheckMockeries(elements);
+    this.checkOptionalBehaviours = new CheckOptionalBehaviours(elements, trees, messager);
   }
 
   TestClass from(Element element) throws ValidationException {
@@ -32,11 +46,16 @@ final class GetTestClass {
     if (element.getKind() != ElementKind.INTERFACE) return null;
 
     ClassName className = ClassName.get((TypeElement) element);
-    if (!isAnnotatedWithInterceptor(element)) {
+    List<Annotated> interceptors = getAnnotated(element, Interceptor.class);
+    if (interceptors.isEmpty()) {
       return null;
     }
 
-    List<Method> methods = getMethods(element);
+    List<Method> allMethods = getMethods(element);
+    List<Method> methods = new ArrayList<>();
+    for (Method method : allMethods) {
+      if (!method.skipTest) methods.add(method);
+    }
 
     for (Method method : methods) {
       if (!method.hasMockery) {
@@ -67,7 +86,83 @@ final class GetTestClass {
       namesMethods.add(method.name);
     }
 
-    return new TestClass(className, element, methods);
+    checkMockeries.from(className, allMethods);
+    checkOptionalBehaviours.from(className, methods);
+
+    boolean implementable = isImplementable((TypeElement) element, allMethods);
+    boolean indexable = isIndexable((TypeElement) element, interceptors, allMethods);
+    return new TestClass(className, element, methods, allMethods, implementable, interceptors, indexable);
+  }
+
+  /**
+   * An index can be generated only for those interfaces with a single interceptor, whose methods are not
+   * overloaded, with no more than one mockery per method and param, and whose annotations and behaviours
+   * are visible from their package. The rest are resolved by reflection at runtime, which reports their errors.
+   */
+  private boolean isIndexable(TypeElement typeElement, List<Annotated> interceptors, List<Method> allMethods) {
+    if (interceptors.size() != 1) return false;
+
+    String packageName = ClassName.get(typeElement).packageName();
+    List<Annotated> annotated = new ArrayList<>(interceptors);
+    Set<String> names = new HashSet<>();
+
+    for (Method method : allMethods) {
+      if (!names.add(method.name)) return false;
+      if (method.mockeries.size() > 1) return false;
+      annotated.addAll(method.mockeries);
+
+      for (Param param : method.params) {
+        if (param.mockeries.size() > 1) return false;
+        annotated.addAll(param.mockeries);
+      }
+    }
+
+    for (Annotated candidate : annotated) {
+      if (!isVisible(candidate.annotation, packageName)) return false;
+      if (!isVisible(candidate.behaviour, packageName)) return false;
+    }
+
+    return true;
+  }
+
+  private boolean isVisible(ClassName className, String packageName) {
+    TypeElement typeElement = elements.getTypeElement(className.toString());
+    if (typeElement == null) return false;
+
+    boolean samePackage = className.packageName().equals(packageName);
+    for (Element enclosing = typeElement; enclosing.getKind() != ElementKind.PACKAGE;
+        enclosing = enclosing.getEnclosingElement()) {
+      Set<Modifier> modifiers = enclosing.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)) return false;
+      if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * An implementation can be generated only for those interfaces which are visible from their package,
+   * neither generic nor extending other interfaces, and whose methods are neither generic nor overloaded,
+   * tested or not. The rest are mocked with a dynamic proxy.
+   */
+  private boolean isImplementable(TypeElement typeElement, List<Method> allMethods) {
+    if (!typeElement.getTypeParameters().isEmpty()) return false;
+    if (!typeElement.getInterfaces().isEmpty()) return false;
+
+    for (Element enclosing = typeElement; enclosing.getKind() != ElementKind.PACKAGE;
+        enclosing = enclosing.getEnclosingElement()) {
+      if (enclosing.getModifiers().contains(Modifier.PRIVATE)) return false;
+    }
+
+    Set<String> names = new HashSet<>();
+    for (Method method : allMethods) {
+      if (!names.add(method.name)) return false;
+
+      ExecutableElement executableElement = (ExecutableElement) method.element;
+      if (!executableElement.getTypeParameters().isEmpty()) return false;
+    }
+
+    return true;
   }
 
   private List<Method> getMethods(Element classElement) {
@@ -78,16 +173,14 @@ final class GetTestClass {
       if (methodElement.getKind() != ElementKind.METHOD) continue;
       Symbol.MethodSymbol methodSymbol = (Symbol.MethodSymbol) methodElement;
 
-      if (skipTest(methodSymbol)) continue;
-
       String name = methodSymbol.getSimpleName().toString();
       TypeName returnType = TypeName.get(methodSymbol.getReturnType());
       List<Param> params = getParams(methodSymbol);
 
-      Mockery mockery = getAnnotation(methodSymbol, Mockery.class);
+      List<Annotated> mockeries = getAnnotated(methodSymbol, Mockery.class);
 
       methods.add(new Method(name, methodElement,
-          returnType, params, mockery != null));
+          returnType, params, mockeries, skipTest(methodSymbol)));
     }
 
     return methods;
@@ -101,67 +194,52 @@ final class GetTestClass {
       Symbol.VarSymbol varSymbolParam = paramsSymbols.get(position);
       String name = varSymbolParam.getSimpleName().toString();
       TypeName type = TypeName.get(varSymbolParam.asType());
+      TypeName erasedType = TypeName.get(types.erasure(varSymbolParam.asType()));
 
-      boolean isOptional = true;
-      Mockery mockery = getAnnotation(varSymbolParam, Mockery.class);
-
-      if (mockery != null) {
-        Mockery.Behaviour behaviour = getBehaviourMockery(mockery);
-        isOptional = behaviour.isOptional();
-      }
+      List<Annotated> mockeries = getAnnotated(varSymbolParam, Mockery.class);
+      boolean isOptional = mockeries.isEmpty() || mockeries.get(0).optional;
 
       params.add(new Param(name, varSymbolParam,
-          position, type, mockery != null, isOptional));
+          position, type, erasedType, mockeries, isOptional));
     }
 
     return params;
   }
 
-  private Mockery.Behaviour getBehaviourMockery(Mockery mockery) {
-    try {
-      mockery.value();
-    } catch (MirroredTypeException e) {
-      TypeElement typeElement = (TypeElement) types.asElement(e.getTypeMirror());
-      try {
-        String className = typeElement.getQualifiedName().toString();
-        Class<?> behaviourClass = Class.forName(className);
-        Mockery.Behaviour behaviour = (Mockery.Behaviour) instantiateInterface.from(behaviourClass);
-        return behaviour;
-      } catch (ClassNotFoundException e1) {
-        e1.printStackTrace();
-      }
-    }
-    return null;
-  }
+  /**
+   * Read from the annotation mirrors of the element those annotations annotated with the given one, along with
+   * the behaviour class its value points to and if it is optional, without loading any of those classes.
+   */
+  private List<Annotated> getAnnotated(Element element, Class<? extends Annotation> classAnnotation) {
+    List<Annotated> annotated = new ArrayList<>();
 
-  private boolean isAnnotatedWithInterceptor(Element element) {
-    List<? extends AnnotationMirror> annotationMirrors =
-        element.getAnnotationMirrors();
+    for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+      Element annotationElement = annotationMirror.getAnnotationType().asElement();
 
-    for (AnnotationMirror annotationMirror : annotationMirrors) {
-      Interceptor interceptor = annotationMirror
-          .getAnnotationType()
-          .asElement()
-          .getAnnotation(Interceptor.class);
-      if (interceptor != null) return true;
-    }
+      for (AnnotationMirror metaAnnotation : annotationElement.getAnnotationMirrors()) {
+        TypeElement metaElement = (TypeElement) metaAnnotation.getAnnotationType().asElement();
+        if (!metaElement.getQualifiedName().contentEquals(classAnnotation.getCanonicalName())) continue;
 
-    return false;
-  }
+        TypeElement behaviour = null;
+        boolean optional = false;
 
-  private <A extends Annotation> A getAnnotation(Element element, Class<A> classAnnotation) {
-    List<? extends AnnotationMirror> annotationMirrors =
-        element.getAnnotationMirrors();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+            : elements.getElementValuesWithDefaults(metaAnnotation).entrySet()) {
+          String name = value.getKey().getSimpleName().toString();
 
-    for (AnnotationMirror annotationMirror : annotationMirrors) {
-      A annotation = annotationMirror
-          .getAnnotationType()
-          .asElement()
-          .getAnnotation(classAnnotation);
-      if (annotation != null) return annotation;
+          if (name.equals("value")) {
+            behaviour = (TypeElement) types.asElement((TypeMirror) value.getValue().getValue());
+          } else if (name.equals("optional")) {
+            optional = (Boolean) value.getValue().getValue();
+          }
+        }
+
+        annotated.add(new Annotated(ClassName.get((TypeElement) annotationElement), ClassName.get(behaviour),
+            annotationMirror, optional));
+      }
     }
 
-    return null;
+    return annotated;
   }
 
   private boolean skipTest(Element element) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Victor Albertos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.victoralbertos.mockery.internal;
+
+import com.google.auto.service.AutoService;
+import io.victoralbertos.mockery.api.Interceptor;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Write the annotations annotated with {@code Interceptor} declared by the module being compiled to
+ * {@link GetInterceptorAnnotations#RESOURCE}, so {@link MockeryProcessor} claims them once the module is on
+ * its path, instead of listing them by hand.
+ */
+@AutoService(Processor.class)
+public final class InterceptorIndexProcessor extends AbstractProcessor {
+  private final Set<String> annotations = new TreeSet<>();
+  private final List<Element> originatingElements = new ArrayList<>();
+
+  @Override public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(Interceptor.class.getCanonicalName());
+  }
+
+  @Override public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override public boolean process(Set<? extends TypeElement> elements, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      if (!annotations.isEmpty()) writeIndex();
+      return false;
+    }
+
+    for (Element element : roundEnv.getElementsAnnotatedWith(Interceptor.class)) {
+      if (element.getKind() != ElementKind.ANNOTATION_TYPE) continue;
+
+      annotations.add(((TypeElement) element).getQualifiedName().toString());
+      originatingElements.add(element);
+    }
+
+    return false;
+  }
+
+  private void writeIndex() {
+    try {
+      FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+          GetInterceptorAnnotations.RESOURCE, originatingElements.toArray(new Element[0]));
+
+      try (Writer writer = new OutputStreamWriter(index.openOutputStream(), "UTF-8")) {
+        writer.write("# The annotations annotated with @Interceptor declared by this module, "
+            + "which MockeryProcessor claims.\n");
+        for (String annotation : annotations) {
+          writer.write(annotation + "\n");
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+    }
+  }
+
+}
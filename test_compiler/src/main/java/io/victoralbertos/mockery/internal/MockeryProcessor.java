@@ -18,7 +18,10 @@ package io.victoralbertos.mockery.internal;
 
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.JavaFile;
+import com.sun.source.util.Trees;
+import io.victoralbertos.mockery.api.Interceptor;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import javax.annotation.processing.AbstractProcessor;
@@ -29,6 +32,7 @@ import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
@@ -40,14 +44,19 @@ public final class MockeryProcessor extends AbstractProcessor {
   private Elements elementUtils;
   private GetTestClass getTestClass;
   private BrewJavaFile brewJavaFile;
+  private BrewImplementationFile brewImplementationFile;
+  private BrewIndexFile brewIndexFile;
 
   @Override public synchronized void init(ProcessingEnvironment env) {
     super.init(env);
     this.messager = env.getMessager();
     this.filer = env.getFiler();
     this.elementUtils = env.getElementUtils();
-    this.getTestClass = new GetTestClass(env.getTypeUtils());
+    this.getTestClass = new GetTestClass(env.getTypeUtils(), env.getElementUtils(), Trees.instance(env),
+        env.getMessager());
     this.brewJavaFile = new BrewJavaFile();
+    this.brewImplementationFile = new BrewImplementationFile();
+    this.brewIndexFile = new BrewIndexFile();
   }
 
   @Override public SourceVersion getSupportedSourceVersion() {
@@ -55,14 +64,25 @@ public final class MockeryProcessor extends AbstractProcessor {
   }
 
   @Override public boolean process(Set<? extends TypeElement> elements, RoundEnvironment roundEnv) {
-    for (Element element : roundEnv.getRootElements()) {
+    for (Element element : annotatedInterfaces(elements, roundEnv)) {
       try {
         TestClass testClass = getTestClass.from(element);
         if (testClass == null) continue;
-        if (testClass.methods.isEmpty()) continue;
 
-        JavaFile javaFile = brewJavaFile.from(testClass);
-        javaFile.writeTo(filer);
+        if (!testClass.methods.isEmpty()) {
+          JavaFile javaFile = brewJavaFile.from(testClass);
+          javaFile.writeTo(filer);
+        }
+
+        if (testClass.implementable) {
+          JavaFile javaFile = brewImplementationFile.from(testClass);
+          javaFile.writeTo(filer);
+        }
+
+        if (testClass.indexable) {
+          JavaFile javaFile = brewIndexFile.from(testClass);
+          javaFile.writeTo(filer);
+        }
       } catch (GetTestClass.ValidationException e) {
         messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
       } catch (IOException e) {
@@ -73,10 +93,55 @@ public final class MockeryProcessor extends AbstractProcessor {
     return false;
   }
 
+  /**
+   * Collect the top level elements annotated with any of the claimed annotations, only once each one.
+   * The annotations annotated with {@code Interceptor} declared by the module being compiled are not listed
+   * on any resource yet, so the elements annotated with them are collected too.
+   */
+  private Set<Element> annotatedInterfaces(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Set<Element> elements = new LinkedHashSet<>();
+
+    for (TypeElement annotation : annotations) {
+      if (annotation.getQualifiedName().contentEquals(Interceptor.class.getCanonicalName())) {
+        for (Element interceptor : roundEnv.getElementsAnnotatedWith(annotation)) {
+          if (interceptor.getKind() != ElementKind.ANNOTATION_TYPE) continue;
+          addTopLevelElements(elements, roundEnv.getElementsAnnotatedWith((TypeElement) interceptor));
+        }
+      } else {
+        addTopLevelElements(elements, roundEnv.getElementsAnnotatedWith(annotation));
+      }
+    }
+
+    return elements;
+  }
+
+  private void addTopLevelElements(Set<Element> elements, Set<? extends Element> candidates) {
+    for (Element element : candidates) {
+      if (element.getEnclosingElement().getKind() == ElementKind.PACKAGE) elements.add(element);
+    }
+  }
+
+  /**
+   * Claim only the annotations annotated with {@code Interceptor}, instead of every one, so the processor
+   * neither runs on unrelated classes nor prevents incremental builds. {@code Interceptor} itself is claimed
+   * to find the ones declared by the module being compiled.
+   */
   @Override public Set<String> getSupportedAnnotationTypes() {
-    Set<String> annotations = new LinkedHashSet();
-    annotations.add("*");
-    return annotations;
+    String option = processingEnv != null
+        ? processingEnv.getOptions().get(GetInterceptorAnnotations.OPTION) : null;
+
+    try {
+      Set<String> annotations = new GetInterceptorAnnotations()
+          .from(MockeryProcessor.class.getClassLoader(), option);
+      annotations.add(Interceptor.class.getCanonicalName());
+      return annotations;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override public Set<String> getSupportedOptions() {
+    return Collections.singleton(GetInterceptorAnnotations.OPTION);
   }
 
 }
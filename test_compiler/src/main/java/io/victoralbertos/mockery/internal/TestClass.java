@@ -19,18 +19,56 @@ package io.victoralbertos.mockery.internal;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 import java.util.List;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 
 final class TestClass {
   final ClassName className;
   final Element element;
   final List<Method> methods;
+  final List<Method> allMethods;
+  final boolean implementable;
+  final List<Annotated> interceptors;
+  final boolean indexable;
 
+  /**
+   * @param methods the methods to be tested.
+   * @param allMethods every method of the interface, including the skipped ones, in declaration order.
+   * @param implementable if an implementation of the interface can be generated.
+   * @param interceptors the annotations of the interface annotated with {@code Interceptor}.
+   * @param indexable if a {@link MockeryIndex} of the interface can be generated.
+   */
   TestClass(ClassName className, Element element,
-      List<Method> methods) {
+      List<Method> methods, List<Method> allMethods, boolean implementable,
+      List<Annotated> interceptors, boolean indexable) {
     this.className = className;
     this.element = element;
     this.methods = methods;
+    this.allMethods = allMethods;
+    this.implementable = implementable;
+    this.interceptors = interceptors;
+    this.indexable = indexable;
+  }
+
+  /**
+   * An annotation annotated with {@code Interceptor} or {@code Mockery}, along with the behaviour class it points to.
+   */
+  static class Annotated {
+    final ClassName annotation;
+    final ClassName behaviour;
+    final AnnotationMirror mirror;
+    final boolean optional;
+
+    /**
+     * @param optional the {@code optional} attribute of {@code Mockery}, always false for an interceptor.
+     */
+    Annotated(ClassName annotation, ClassName behaviour, AnnotationMirror mirror, boolean optional) {
+      this.annotation = annotation;
+      this.behaviour = behaviour;
+      this.mirror = mirror;
+      this.optional = optional;
+    }
+
   }
 
   static class Method {
@@ -38,15 +76,19 @@ final class TestClass {
     final Element element;
     final TypeName returnType;
     final List<Param> params;
+    final List<Annotated> mockeries;
     final boolean hasMockery;
+    final boolean skipTest;
 
     Method(String name, Element element, TypeName returnType,
-        List<Param> params, boolean hasMockery) {
+        List<Param> params, List<Annotated> mockeries, boolean skipTest) {
       this.name = name;
       this.element = element;
       this.returnType = returnType;
       this.params = params;
-      this.hasMockery = hasMockery;
+      this.mockeries = mockeries;
+      this.hasMockery = !mockeries.isEmpty();
+      this.skipTest = skipTest;
     }
 
     static class Param {
@@ -54,17 +96,21 @@ final class TestClass {
       final Element element;
       final int positionOnMethod;
       final TypeName type;
+      final TypeName erasedType;
+      final List<Annotated> mockeries;
       final boolean hasMockery;
       final boolean isOptional;
 
 
       Param(String name, Element element, int positionOnMethod, TypeName type,
-          boolean hasMockery, boolean isOptional) {
+          TypeName erasedType, List<Annotated> mockeries, boolean isOptional) {
         this.name = name;
         this.element = element;
         this.positionOnMethod = positionOnMethod;
         this.type = type;
-        this.hasMockery = hasMockery;
+        this.erasedType = erasedType;
+        this.mockeries = mockeries;
+        this.hasMockery = !mockeries.isEmpty();
         this.isOptional = isOptional;
       }
 
@@ -18,10 +18,17 @@ package io.victoralbertos.mockery.internal;
 
 import com.google.testing.compile.JavaFileObjects;
 import com.google.testing.compile.JavaSourceSubjectFactory;
+import io.victoralbertos.mockery.api.Interceptor;
+import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;
+import java.nio.charset.Charset;
+import java.util.Set;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import org.junit.Test;
 
 import static com.google.common.truth.Truth.assertAbout;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public final class MockeryProcessorTest {
   @Test public void When_Class_With_Interceptor_Has_Not_Mockery_On_Method_Then_Fail_Compilation() throws Exception {
@@ -617,4 +624,457 @@ public final class MockeryProcessorTest {
         .generatesSources(expectedSource);
   }
 
+  @Test public void With_Implementation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Implemented", "" +
+        "package test;\n"
+        +"import io.victoralbertos.mockery.api.SkipTest;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Optional;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import java.util.List;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface Implemented {\n"
+        + "  @Valid(STRING)\n"
+        + "  List<String> method(@Valid(STRING) String s1, @Optional List<String> names);\n"
+        + "\n"
+        + "  @SkipTest\n"
+        + "  @Valid(STRING)\n"
+        + "  String skipped();\n"
+        + "}");
+
+    JavaFileObject expectedSource = JavaFileObjects.forSourceString("test/Implemented_MockeryImpl", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.internal.BehaviourRegistry;\n"
+        + "import io.victoralbertos.mockery.internal.MockeryMethod;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.String;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "import java.util.List;\n"
+        + "import javax.annotation.Generated;\n"
+        + "\n"
+        + "@Generated(\n"
+        + "    value = \"io.victoralbertos.mockery.internal.MockeryProcessor\",\n"
+        + "    comments = \"Generated code from Mockery. Don't modify. Or modify. It doesn't matter.\"\n"
+        + ")\n"
+        + "@SuppressWarnings(\"unchecked\")\n"
+        + "public final class Implemented_MockeryImpl implements Implemented {\n"
+        + "  private final MockeryMethod method;\n"
+        + "\n"
+        + "  private final MockeryMethod skipped;\n"
+        + "\n"
+        + "  public Implemented_MockeryImpl(BehaviourRegistry registry) {\n"
+        + "    this.method = MockeryMethod.of(registry, Implemented.class, \"method\", String.class, List.class);\n"
+        + "    this.skipped = MockeryMethod.of(registry, Implemented.class, \"skipped\");\n"
+        + "  }\n"
+        + "\n"
+        + "  @Override\n"
+        + "  public List<String> method(String s1, List<String> names) {\n"
+        + "    return (List<String>) this.method.invoke(new Object[] {s1, names});\n"
+        + "  }\n"
+        + "\n"
+        + "  @Override\n"
+        + "  public String skipped() {\n"
+        + "    return (String) this.skipped.invoke(null);\n"
+        + "  }\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesSources(expectedSource);
+  }
+
+  @Test public void With_Index() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Indexed", "" +
+        "package test;\n"
+        +"import io.victoralbertos.mockery.api.SkipTest;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Optional;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface Indexed {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Valid(STRING) String s1, @Optional String s2);\n"
+        + "\n"
+        + "  @SkipTest\n"
+        + "  void skipped(String s1);\n"
+        + "}");
+
+    JavaFileObject expectedSource = JavaFileObjects.forSourceString("test/Indexed_MockeryIndex", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Optional;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import io.victoralbertos.mockery.internal.MockeryIndex;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_mockery.OptionalMockery;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;\n"
+        + "import javax.annotation.Generated;\n"
+        + "\n"
+        + "@Generated(\n"
+        + "    value = \"io.victoralbertos.mockery.internal.MockeryProcessor\",\n"
+        + "    comments = \"Generated code from Mockery. Don't modify. Or modify. It doesn't matter.\"\n"
+        + ")\n"
+        + "public final class Indexed_MockeryIndex extends MockeryIndex {\n"
+        + "  public Indexed_MockeryIndex() {\n"
+        + "    super(interceptor(Bypass.class, BypassInterceptor.class));\n"
+        + "    method(\"method\", mockery(Valid.class, ValidMockery.class), checkedMockery(Valid.class, ValidMockery.class), "
+        + "mockery(Optional.class, OptionalMockery.class));\n"
+        + "    method(\"skipped\", NONE, NONE);\n"
+        + "  }\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesSources(expectedSource);
+  }
+
+  @Test public void When_Valid_Regex_Is_Invalid_Then_Fail_Compilation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("RestApi", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Enum;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import java.util.List;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface RestApi {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Valid(\"[a-z\") String s1);\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .failsToCompile()
+        .withErrorContaining("supplied to @Valid is not valid");
+  }
+
+  @Test public void When_Valid_Regex_Generates_Values_Not_Matching_It_Then_Fail_Compilation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("RestApi", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface RestApi {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Valid(\"(?i)abc\") String s1);\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .failsToCompile()
+        .withErrorContaining("supplied to @Valid does not match it");
+  }
+
+  @Test public void When_Valid_Regex_Is_Matched_By_No_Value_Then_Fail_Compilation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("RestApi", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface RestApi {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Valid(\"a&b\") String s1);\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .failsToCompile()
+        .withErrorContaining("No value matches the regex 'a&b'");
+  }
+
+  @Test public void When_Valid_Regex_Is_Not_Generated_From_Because_Of_Legal_Value_Then_Compile() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("RestApi", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface RestApi {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Valid(value = \"(?i)abc\", legal = \"ABC\") String s1);\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError();
+  }
+
+  @Test public void When_Enum_Array_Is_Empty_Then_Fail_Compilation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("RestApi", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Enum;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import java.util.List;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface RestApi {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Enum({}) String s1);\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .failsToCompile()
+        .withErrorContaining("An empty array was found");
+  }
+
+  @Test public void When_Param_Type_Is_Not_Supported_By_Mockery_Then_Fail_Compilation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("RestApi", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Enum;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import java.util.List;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface RestApi {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Valid(STRING) List<String> names);\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .failsToCompile()
+        .withErrorContaining("But it is not a supported type for @Valid");
+  }
+
+  @Test public void With_Mockery_Declared_In_The_Same_Compilation() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Declared", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.Metadata;\n"
+        + "import io.victoralbertos.mockery.api.Mockery;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import java.lang.annotation.Retention;\n"
+        + "import java.lang.reflect.Type;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "import static java.lang.annotation.RetentionPolicy.RUNTIME;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface Declared {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Free String s1);\n"
+        + "\n"
+        + "  @Retention(RUNTIME)\n"
+        + "  @Mockery(value = FreeMockery.class, optional = true)\n"
+        + "  @interface Free {}\n"
+        + "\n"
+        + "  class FreeMockery implements Mockery.Behaviour<Free> {\n"
+        + "    @Override public Object legal(Metadata<Free> metadata) { return null; }\n"
+        + "    @Override public Object illegal(Metadata<Free> metadata) { return null; }\n"
+        + "    @Override public void validate(Metadata<Free> metadata, Object candidate) {}\n"
+        + "    @Override public Type[] supportedTypes(Metadata<Free> metadata) { return new Type[0]; }\n"
+        + "    @Override public boolean isOptional() { return false; }\n"
+        + "  }\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError();
+  }
+
+  @Test public void With_Behaviour_Optional_But_Mockery_Not_Then_Warn() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Undeclared", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.Metadata;\n"
+        + "import io.victoralbertos.mockery.api.Mockery;\n"
+        + "import io.victoralbertos.mockery.api.built_in_interceptor.Bypass;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import java.lang.annotation.Retention;\n"
+        + "import java.lang.reflect.Type;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "import static java.lang.annotation.RetentionPolicy.RUNTIME;\n"
+        + "\n"
+        + "@Bypass\n"
+        + "interface Undeclared {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method(@Free String s1);\n"
+        + "\n"
+        + "  @Retention(RUNTIME)\n"
+        + "  @Mockery(FreeMockery.class)\n"
+        + "  @interface Free {}\n"
+        + "\n"
+        + "  class FreeMockery implements Mockery.Behaviour<Free> {\n"
+        + "    @Override public Object legal(Metadata<Free> metadata) { return null; }\n"
+        + "    @Override public Object illegal(Metadata<Free> metadata) { return null; }\n"
+        + "    @Override public void validate(Metadata<Free> metadata, Object candidate) {}\n"
+        + "    @Override public Type[] supportedTypes(Metadata<Free> metadata) { return new Type[0]; }\n"
+        + "    @Override public boolean isOptional() { return true; }\n"
+        + "  }\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError()
+        .withWarningContaining("FreeMockery returns true from isOptional(), but Mockery no longer calls it");
+  }
+
+  @Test public void Claim_Only_The_Known_Interceptors() throws Exception {
+    Set<String> annotations = new MockeryProcessor().getSupportedAnnotationTypes();
+
+    assertFalse(annotations.contains("*"));
+    assertTrue(annotations.contains(Bypass.class.getCanonicalName()));
+    assertTrue(annotations.contains(Interceptor.class.getCanonicalName()));
+  }
+
+  @Test public void With_Interceptor_Supplied_As_Option() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Custom", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.Interceptor;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;\n"
+        + "import java.lang.annotation.Retention;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "import static java.lang.annotation.RetentionPolicy.RUNTIME;\n"
+        + "\n"
+        + "@Custom.Intercepted\n"
+        + "interface Custom {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method();\n"
+        + "\n"
+        + "  @Retention(RUNTIME)\n"
+        + "  @Interceptor(BypassInterceptor.class)\n"
+        + "  @interface Intercepted {}\n"
+        + "}");
+
+    JavaFileObject expectedSource = JavaFileObjects.forSourceString("test/Custom_MockeryIndex", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import io.victoralbertos.mockery.internal.MockeryIndex;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;\n"
+        + "import javax.annotation.Generated;\n"
+        + "\n"
+        + "@Generated(\n"
+        + "    value = \"io.victoralbertos.mockery.internal.MockeryProcessor\",\n"
+        + "    comments = \"Generated code from Mockery. Don't modify. Or modify. It doesn't matter.\"\n"
+        + ")\n"
+        + "public final class Custom_MockeryIndex extends MockeryIndex {\n"
+        + "  public Custom_MockeryIndex() {\n"
+        + "    super(interceptor(Custom.Intercepted.class, BypassInterceptor.class));\n"
+        + "    method(\"method\", mockery(Valid.class, ValidMockery.class));\n"
+        + "  }\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .withCompilerOptions("-Amockery.interceptors=test.Custom.Intercepted")
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesSources(expectedSource);
+  }
+
+  @Test public void With_Interceptor_Declared_In_The_Module_Then_Claim_It() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Custom", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.Interceptor;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;\n"
+        + "import java.lang.annotation.Retention;\n"
+        + "\n"
+        + "import static io.victoralbertos.mockery.api.built_in_mockery.Valid.Template.STRING;\n"
+        + "import static java.lang.annotation.RetentionPolicy.RUNTIME;\n"
+        + "\n"
+        + "@Custom.Intercepted\n"
+        + "interface Custom {\n"
+        + "  @Valid(STRING)\n"
+        + "  String method();\n"
+        + "\n"
+        + "  @Retention(RUNTIME)\n"
+        + "  @Interceptor(BypassInterceptor.class)\n"
+        + "  @interface Intercepted {}\n"
+        + "}");
+
+    JavaFileObject expectedSource = JavaFileObjects.forSourceString("test/Custom_MockeryIndex", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.built_in_mockery.Valid;\n"
+        + "import io.victoralbertos.mockery.internal.MockeryIndex;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_mockery.ValidMockery;\n"
+        + "import javax.annotation.Generated;\n"
+        + "\n"
+        + "@Generated(\n"
+        + "    value = \"io.victoralbertos.mockery.internal.MockeryProcessor\",\n"
+        + "    comments = \"Generated code from Mockery. Don't modify. Or modify. It doesn't matter.\"\n"
+        + ")\n"
+        + "public final class Custom_MockeryIndex extends MockeryIndex {\n"
+        + "  public Custom_MockeryIndex() {\n"
+        + "    super(interceptor(Custom.Intercepted.class, BypassInterceptor.class));\n"
+        + "    method(\"method\", mockery(Valid.class, ValidMockery.class));\n"
+        + "  }\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new MockeryProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesSources(expectedSource);
+  }
+
+  @Test public void With_Interceptor_Declared_In_The_Module_Then_Index_It() throws Exception {
+    JavaFileObject source = JavaFileObjects.forSourceString("Custom", "" +
+        "package test;\n"
+        + "import io.victoralbertos.mockery.api.Interceptor;\n"
+        + "import io.victoralbertos.mockery.internal.built_in_interceptor.BypassInterceptor;\n"
+        + "import java.lang.annotation.Retention;\n"
+        + "\n"
+        + "import static java.lang.annotation.RetentionPolicy.RUNTIME;\n"
+        + "\n"
+        + "interface Custom {\n"
+        + "  @Retention(RUNTIME)\n"
+        + "  @Interceptor(BypassInterceptor.class)\n"
+        + "  @interface Intercepted {}\n"
+        + "}");
+
+    assertAbout(JavaSourceSubjectFactory
+        .javaSource()).that(source)
+        .processedWith(new InterceptorIndexProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "", "META-INF/mockery/interceptors")
+        .withStringContents(Charset.forName("UTF-8"), ""
+            + "# The annotations annotated with @Interceptor declared by this module, which MockeryProcessor claims.\n"
+            + "test.Custom.Intercepted\n");
+  }
+
 }
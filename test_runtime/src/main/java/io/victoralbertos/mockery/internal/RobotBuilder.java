@@ -66,9 +66,10 @@ public class RobotBuilder {
       }
 
       providersClass.getDeclaredMethods();
-      this.interceptorMetadata = new GetInterceptorMetadata()
+      BehaviourRegistry registry = new BehaviourRegistry();
+      this.interceptorMetadata = new GetInterceptorMetadata(registry)
           .with(providersClass, method, null);
-      this.mockeryMetadata = new GetMockeryMetadata();
+      this.mockeryMetadata = new GetMockeryMetadata(registry);
       this.checkSupportType = new CheckSupportType();
     }
 